@@ -0,0 +1,24 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * Notified of every change to the employee cache, including evictions, so derived structures can be maintained
+ * incrementally instead of being rebuilt from the full roster.
+ */
+public interface EmployeeCacheListener {
+
+    /**
+     * @param previous the entry replaced by this put, or null if the key was absent
+     */
+    void onPut(Employee previous, Employee current);
+
+    void onRemove(Employee removed);
+
+    /**
+     * An entry dropped by the cache itself, for size or expiry, rather than invalidated. The employee still exists.
+     */
+    default void onEvict(Employee evicted) {
+        onRemove(evicted);
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.ForwardingCache;
+import com.google.common.util.concurrent.Striped;
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Employee cache that reports puts and explicit invalidations to its {@link EmployeeCacheListener}s. Evictions are
+ * reported by the delegate's removal listener (see {@code CacheConfig}). Mutations through {@link #asMap()} are not
+ * observed and must not be used.
+ * <p>
+ * A change and its notification happen under a lock striped by key, so listeners see the changes to one employee in
+ * the order they were applied, each with the entry it actually replaced.
+ */
+public class ListeningEmployeeCache extends ForwardingCache.SimpleForwardingCache<String, Employee> {
+
+    private final List<EmployeeCacheListener> listeners;
+    private final Striped<Lock> keyLocks = Striped.lock(64);
+
+    public ListeningEmployeeCache(Cache<String, Employee> delegate, List<EmployeeCacheListener> listeners) {
+        super(delegate);
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void put(String key, Employee value) {
+        Lock lock = keyLocks.get(key);
+        lock.lock();
+        try {
+            Employee previous = delegate().asMap().put(key, value);
+            listeners.forEach(listener -> listener.onPut(previous, value));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Employee> entries) {
+        entries.forEach(this::put);
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        Lock lock = keyLocks.get(key);
+        lock.lock();
+        try {
+            Employee removed = delegate().asMap().remove(key);
+            if (removed != null) {
+                listeners.forEach(listener -> listener.onRemove(removed));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll(Iterable<? extends Object> keys) {
+        keys.forEach(this::invalidate);
+    }
+
+    @Override
+    public void invalidateAll() {
+        new ArrayList<>(delegate().asMap().keySet()).forEach(this::invalidate);
+    }
+}
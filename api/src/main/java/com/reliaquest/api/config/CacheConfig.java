@@ -2,12 +2,16 @@ package com.reliaquest.api.config;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.reliaquest.api.cache.EmployeeCacheListener;
+import com.reliaquest.api.cache.ListeningEmployeeCache;
 import com.reliaquest.api.model.Employee;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -21,10 +25,17 @@ public class CacheConfig {
     private Integer cacheExpireTime;
 
     @Bean
-    public Cache<String, Employee> employeeCache() {
-        return CacheBuilder.newBuilder()
+    public Cache<String, Employee> employeeCache(List<EmployeeCacheListener> listeners) {
+        RemovalListener<String, Employee> evictionListener = notification -> {
+            if (notification.wasEvicted() && notification.getValue() != null) {
+                listeners.forEach(listener -> listener.onEvict(notification.getValue()));
+            }
+        };
+        Cache<String, Employee> cache = CacheBuilder.newBuilder()
                 .maximumSize(cacheSize)
                 .expireAfterAccess(cacheExpireTime, TimeUnit.MINUTES)
+                .removalListener(evictionListener)
                 .build();
+        return new ListeningEmployeeCache(cache, listeners);
     }
 }
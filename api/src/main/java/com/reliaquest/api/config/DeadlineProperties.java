@@ -0,0 +1,34 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "request.deadline")
+@Data
+public class DeadlineProperties {
+
+    /**
+     * Budget for requests that neither send a timeout header nor match an endpoint below.
+     */
+    private long defaultMs = 5000;
+
+    /**
+     * Upper bound on a budget requested through the timeout header.
+     */
+    private long maxMs = 30000;
+
+    /**
+     * Time kept back from every remote attempt so the cache fallback can still be served before the deadline.
+     */
+    private long fallbackReserveMs = 50;
+
+    /**
+     * Per-endpoint budgets keyed by Ant-style path pattern, first match wins.
+     */
+    private Map<String, Long> endpoints = new LinkedHashMap<>();
+}
@@ -3,13 +3,18 @@ package com.reliaquest.api.controller;
 import com.reliaquest.api.dto.AddEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.util.EmployeeProjection;
+import com.reliaquest.api.web.EmployeeListPassThroughFilter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -27,14 +32,18 @@ public class EmployeeController implements IEmployeeController<Employee, AddEmpl
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("Fetching All Employees");
-        List<Employee> allEmp = employeeService.getAllEmployees();
+        Set<String> fields = EmployeeProjection.parse(requestParameter(EmployeeProjection.FIELDS_PARAM));
+        if (requestAttribute(EmployeeListPassThroughFilter.REMOTE_FAILED_ATTRIBUTE) != null) {
+            return ResponseEntity.ok(employeeService.getCachedEmployees(fields));
+        }
+        List<Employee> allEmp = fields == null ? employeeService.getAllEmployees() : employeeService.getAllEmployees(fields);
         return ResponseEntity.ok(allEmp);
     }
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch( String searchString) {
         log.info("Searching employees by name: {}", searchString);
-        List<Employee> employees = employeeService.getEmployeeByName(searchString);
+        List<Employee> employees = employeeService.searchEmployeesByName(searchString);
         if(employees == null || employees.isEmpty()){
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(employees);
         }
@@ -44,11 +53,9 @@ public class EmployeeController implements IEmployeeController<Employee, AddEmpl
     @Override
     public ResponseEntity<Employee> getEmployeeById(String id) {
         log.info("Getting employee by id: {}", id);
-        Employee employee = employeeService.getEmployeeById(id);
-        if(employee == null){
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
-        }
-        return ResponseEntity.ok(employee);
+        return employeeService.findEmployeeById(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
     }
 
     @Override
@@ -74,6 +81,11 @@ public class EmployeeController implements IEmployeeController<Employee, AddEmpl
     @Override
     public ResponseEntity createEmployee(@RequestBody AddEmployeeRequest employeeInput) {
         log.info("Adding employee with data: {}", employeeInput);
+        if(employeeService.isWriteBehindEnabled()){
+            UUID pendingId = employeeService.enqueueEmployee(employeeInput);
+            log.info("Employee creation accepted, pending ID {} ",pendingId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("Employee creation pending with ID "+pendingId);
+        }
         UUID empId = employeeService.addEmployee(employeeInput);
         if(empId == null){
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Unable to add Employee");
@@ -93,4 +105,19 @@ public class EmployeeController implements IEmployeeController<Employee, AddEmpl
         log.info("All Employee deleted with Name {} ",empName);
         return ResponseEntity.ok("All Employee deleted with : name "+empName);
     }
+
+    /**
+     * Optional query parameters not declared on {@link IEmployeeController} are read from the current request.
+     */
+    private static String requestParameter(String name) {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getParameter(name)
+                : null;
+    }
+
+    private static Object requestAttribute(String name) {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getAttribute(name)
+                : null;
+    }
 }
@@ -0,0 +1,55 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeeQuery;
+import com.reliaquest.api.exception.InvalidDataException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeQueryIndex;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.RosterStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RestController
+@RequestMapping("/client/employees/query")
+public class EmployeeQueryController {
+
+    private final EmployeeQueryIndex employeeQueryIndex;
+    private final RosterStatistics rosterStatistics;
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeQueryController(EmployeeQueryIndex employeeQueryIndex,
+                                   RosterStatistics rosterStatistics,
+                                   EmployeeService employeeService) {
+        this.employeeQueryIndex = employeeQueryIndex;
+        this.rosterStatistics = rosterStatistics;
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public ResponseEntity<List<Employee>> queryEmployees(EmployeeQuery query) {
+        log.info("Querying employees: {}", query);
+        if (isInverted(query.getMinAge(), query.getMaxAge()) || isInverted(query.getMinSalary(), query.getMaxSalary())) {
+            throw new InvalidDataException("Invalid range provided");
+        }
+        if (rosterStatistics.isComplete()) {
+            return ResponseEntity.ok(employeeQueryIndex.query(query));
+        }
+        log.debug("Cache does not hold the whole roster, filtering the full employee list");
+        return ResponseEntity.ok(employeeService.getAllEmployees().stream()
+                .filter(EmployeeQueryIndex.matching(query))
+                .collect(Collectors.toList()));
+    }
+
+    private static boolean isInverted(Integer min, Integer max) {
+        return min != null && max != null && min > max;
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.EmployeeStreamService;
+import com.reliaquest.api.util.EmployeeProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/client/employees/stream")
+public class EmployeeStreamController {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    private final EmployeeStreamService employeeStreamService;
+
+    @Autowired
+    public EmployeeStreamController(EmployeeStreamService employeeStreamService) {
+        this.employeeStreamService = employeeStreamService;
+    }
+
+    @GetMapping()
+    public ResponseEntity<StreamingResponseBody> streamEmployees(
+            @RequestParam(value = EmployeeProjection.FIELDS_PARAM, required = false) String fields) {
+        log.info("Streaming all employees");
+        Set<String> projection = EmployeeProjection.parse(fields);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(out -> employeeStreamService.streamAllEmployees(projection, out));
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.PendingWrite;
+import com.reliaquest.api.service.WriteBehindQueue;
+import com.reliaquest.api.web.CacheServable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/client/employees/pending")
+public class PendingWriteController {
+
+    private final WriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    public PendingWriteController(WriteBehindQueue writeBehindQueue) {
+        this.writeBehindQueue = writeBehindQueue;
+    }
+
+    @CacheServable
+    @GetMapping()
+    public ResponseEntity<List<PendingWrite>> getPendingWrites() {
+        log.info("Fetching pending employee writes");
+        return ResponseEntity.ok(writeBehindQueue.pendingWrites());
+    }
+
+    @CacheServable
+    @GetMapping("/{pendingId}")
+    public ResponseEntity<PendingWrite> getPendingWrite(@PathVariable UUID pendingId) {
+        log.info("Getting pending employee write: {}", pendingId);
+        return writeBehindQueue.status(pendingId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.RosterStats;
+import com.reliaquest.api.service.RosterStatistics;
+import com.reliaquest.api.web.CacheServable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/client/employees/stats")
+public class RosterStatisticsController {
+
+    private final RosterStatistics rosterStatistics;
+
+    @Autowired
+    public RosterStatisticsController(RosterStatistics rosterStatistics) {
+        this.rosterStatistics = rosterStatistics;
+    }
+
+    @CacheServable
+    @GetMapping()
+    public ResponseEntity<RosterStats> getRosterStats() {
+        log.info("Getting roster statistics");
+        return ResponseEntity.ok(rosterStatistics.snapshot());
+    }
+}
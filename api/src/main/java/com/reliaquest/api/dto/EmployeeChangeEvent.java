@@ -0,0 +1,21 @@
+package com.reliaquest.api.dto;
+
+import com.reliaquest.api.model.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChangeEvent {
+
+    private long sequence;
+    private Type type;
+    private Employee employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
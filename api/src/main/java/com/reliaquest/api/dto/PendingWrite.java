@@ -0,0 +1,42 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PendingWrite {
+
+    private UUID pendingId;
+    private String name;
+    private Integer salary;
+    private Integer age;
+    private String title;
+    private Status status;
+    private UUID employeeId;
+    private int attempts;
+    private Instant acceptedAt;
+    private String lastError;
+
+    public static PendingWrite accepted(UUID pendingId, AddEmployeeRequest request) {
+        return new PendingWrite(pendingId, request.getName(), request.getSalary(), request.getAge(), request.getTitle(),
+                Status.PENDING, null, 0, Instant.now(), null);
+    }
+
+    public AddEmployeeRequest toRequest() {
+        return new AddEmployeeRequest(name, salary, age, title);
+    }
+
+    public enum Status {
+        PENDING,
+        CREATED,
+        FAILED
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RosterStats {
+
+    private long count;
+    private boolean complete;
+    private long salarySum;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Double meanSalary;
+    private Map<String, Long> salaryPercentiles;
+    private List<SalaryBand> salaryHistogram;
+    private Map<Integer, Long> ageDistribution;
+    private Map<String, Long> titleCounts;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SalaryBand {
+        private long from;
+        private long to;
+        private long count;
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * A remote call was rejected locally because its bulkhead compartment was saturated. It extends
+ * {@link RestClientException} so callers take the same fallback paths as for a failed remote call.
+ */
+public class BulkheadFullException extends RestClientException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,11 @@
 package com.reliaquest.api.exception;
 
+/**
+ * A missing employee is an expected outcome rather than a bug, so no stack trace is captured.
+ */
 public class EmployeeNotFound extends RuntimeException {
 
     public EmployeeNotFound(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,6 +1,7 @@
 package com.reliaquest.api.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -8,10 +9,22 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.client.RestClientException;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 @Slf4j
 @ControllerAdvice
 public class ExceptionHandlerAdvice {
 
+    private final AtomicLong clientErrors = new AtomicLong();
+    private final long clientErrorLogEvery;
+
+    /**
+     * @param clientErrorLogEvery not-found and invalid-input responses are logged at INFO once per this many, and
+     *                            at DEBUG otherwise, always without a stack trace
+     */
+    public ExceptionHandlerAdvice(@Value("${exception.client-error-log-every:100}") long clientErrorLogEvery) {
+        this.clientErrorLogEvery = Math.max(1, clientErrorLogEvery);
+    }
 
     @ExceptionHandler({RestClientException.class})
     public ResponseEntity<?> handleException(RestClientException e) {
@@ -21,7 +34,7 @@ public class ExceptionHandlerAdvice {
 
     @ExceptionHandler({InvalidDataException.class})
     public ResponseEntity<?> handleInvalidDataException(InvalidDataException e) {
-        log.error("Error handling request ",e);
+        logClientError("Invalid request", e);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
     }
 
@@ -33,8 +46,8 @@ public class ExceptionHandlerAdvice {
 
     @ExceptionHandler({EmployeeNotFound.class})
     public ResponseEntity<?> handleEmployeeNotFoundException(EmployeeNotFound e) {
-        log.error("No data present ",e);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        logClientError("No data present", e);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
     @ExceptionHandler({Exception.class})
@@ -43,4 +56,13 @@ public class ExceptionHandlerAdvice {
         return ResponseEntity.internalServerError().body(e.getMessage());
     }
 
+    private void logClientError(String kind, RuntimeException e) {
+        long count = clientErrors.incrementAndGet();
+        if (count % clientErrorLogEvery == 1 || clientErrorLogEvery == 1) {
+            log.info("{}: {} ({} client errors so far)", kind, e.getMessage(), count);
+        } else {
+            log.debug("{}: {}", kind, e.getMessage());
+        }
+    }
+
 }
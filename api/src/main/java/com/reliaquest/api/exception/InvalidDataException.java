@@ -1,8 +1,11 @@
 package com.reliaquest.api.exception;
 
+/**
+ * Bad client input. Created without a stack trace, which would only point at the validation line.
+ */
 public class InvalidDataException extends RuntimeException {
 
     public InvalidDataException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
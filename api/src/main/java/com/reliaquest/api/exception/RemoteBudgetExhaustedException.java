@@ -0,0 +1,14 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * A remote call was not sent because the estimated rate-limit budget of the remote was used up. It extends
+ * {@link RestClientException} so callers take the same fallback paths as for a failed remote call.
+ */
+public class RemoteBudgetExhaustedException extends RestClientException {
+
+    public RemoteBudgetExhaustedException(String message) {
+        super(message);
+    }
+}
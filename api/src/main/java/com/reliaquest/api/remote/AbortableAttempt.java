@@ -0,0 +1,64 @@
+package com.reliaquest.api.remote;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketException;
+import java.util.function.Supplier;
+
+/**
+ * One remote attempt that another thread may abort. {@link HttpURLConnection} IO does not react to interrupts, so
+ * the connection the attempt opens is recorded (see {@link DeadlineAwareRequestFactory}) and disconnected on abort,
+ * which fails the blocked read and lets the attempt release its bulkhead permit.
+ */
+final class AbortableAttempt {
+
+    private static final ThreadLocal<AbortableAttempt> CURRENT = new ThreadLocal<>();
+
+    private HttpURLConnection connection;
+    private boolean aborted;
+    private boolean finished;
+
+    /**
+     * Records a connection opened by the attempt running on this thread, if any.
+     */
+    static void attach(HttpURLConnection connection) throws IOException {
+        AbortableAttempt attempt = CURRENT.get();
+        if (attempt != null) {
+            attempt.bind(connection);
+        }
+    }
+
+    <T> T run(Supplier<T> call) {
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.remove();
+            synchronized (this) {
+                finished = true;
+                connection = null;
+            }
+        }
+    }
+
+    /**
+     * Disconnects the attempt's connection unless it has already finished; a finished connection may be back in the
+     * keep-alive pool and is left alone.
+     */
+    synchronized void abort() {
+        if (finished) {
+            return;
+        }
+        aborted = true;
+        if (connection != null) {
+            connection.disconnect();
+        }
+    }
+
+    private synchronized void bind(HttpURLConnection connection) throws IOException {
+        if (aborted) {
+            throw new SocketException("remote attempt aborted");
+        }
+        this.connection = connection;
+    }
+}
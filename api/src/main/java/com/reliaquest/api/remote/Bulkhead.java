@@ -0,0 +1,82 @@
+package com.reliaquest.api.remote;
+
+import com.reliaquest.api.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency compartment for one class of remote traffic: at most {@code maxConcurrent} calls run at once, at most
+ * {@code maxQueued} wait for a slot, and none waits longer than {@code maxWaitMs}. Excess calls are rejected with
+ * {@link BulkheadFullException} and counted.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitMs;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueued, long maxWaitMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.rejected = Counter.builder("remote.bulkhead.rejected")
+                .tag("compartment", name)
+                .register(meterRegistry);
+        Gauge.builder("remote.bulkhead.active", this, Bulkhead::active)
+                .tag("compartment", name)
+                .register(meterRegistry);
+        Gauge.builder("remote.bulkhead.queued", queued, AtomicInteger::get)
+                .tag("compartment", name)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            reject("queue full");
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                reject("timed out waiting for a slot");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject("interrupted waiting for a slot");
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private void reject(String reason) {
+        rejected.increment();
+        throw new BulkheadFullException("Remote " + name + " bulkhead rejected call: " + reason);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.remote;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which the current client request must be answered. The deadline of the request being served is
+ * bound to its thread, so remote calls can size their timeouts and retries from what is left of the budget.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps the call so it runs under the caller's deadline on whichever thread executes it.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return call;
+        }
+        return () -> {
+            Deadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                return call.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    public long remainingMillis() {
+        return Duration.ofNanos(expiresAtNanos - System.nanoTime()).toMillis();
+    }
+
+    /**
+     * @return the later of two deadlines, where null means no deadline and is later than any
+     */
+    public static Deadline later(Deadline first, Deadline second) {
+        if (first == null || second == null) {
+            return null;
+        }
+        return first.expiresAtNanos - second.expiresAtNanos >= 0 ? first : second;
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[" + remainingMillis() + " ms remaining]";
+    }
+}
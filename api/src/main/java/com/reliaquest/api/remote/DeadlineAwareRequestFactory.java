@@ -0,0 +1,42 @@
+package com.reliaquest.api.remote;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+
+/**
+ * Sizes each remote attempt's connect and read timeouts from the time left on the current {@link Deadline}, minus
+ * a reserve for serving the cache fallback. An attempt that would start with no budget left fails immediately.
+ */
+public class DeadlineAwareRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private final int connectTimeoutMs;
+    private final int readTimeoutMs;
+    private final long fallbackReserveMs;
+
+    public DeadlineAwareRequestFactory(int connectTimeoutMs, int readTimeoutMs, long fallbackReserveMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.fallbackReserveMs = fallbackReserveMs;
+        setConnectTimeout(connectTimeoutMs);
+        setReadTimeout(readTimeoutMs);
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        AbortableAttempt.attach(connection);
+        Deadline deadline = Deadline.current().orElse(null);
+        if (deadline == null) {
+            return;
+        }
+        long budget = deadline.remainingMillis() - fallbackReserveMs;
+        if (budget <= 0) {
+            throw new SocketTimeoutException("request deadline exceeded before remote call");
+        }
+        connection.setConnectTimeout((int) Math.min(connectTimeoutMs, budget));
+        connection.setReadTimeout((int) Math.min(readTimeoutMs, budget));
+    }
+}
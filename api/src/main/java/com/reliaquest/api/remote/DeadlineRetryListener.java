@@ -0,0 +1,42 @@
+package com.reliaquest.api.remote;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops {@code @Retryable} remote calls from sleeping into a backoff they cannot finish before the current
+ * {@link Deadline}: when the next backoff plus a minimal attempt no longer fits, the retry is abandoned so the
+ * caller can serve its fallback in time.
+ */
+@Slf4j
+@Component(DeadlineRetryListener.BEAN_NAME)
+public class DeadlineRetryListener implements RetryListener {
+
+    public static final String BEAN_NAME = "deadlineRetryListener";
+
+    static final long MIN_ATTEMPT_MS = 100;
+
+    @Override
+    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+        return true;
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        Deadline.current().ifPresent(deadline -> {
+            long nextBackoff = (long) (RemoteClient.RETRY_DELAY_MS
+                    * Math.pow(RemoteClient.RETRY_MULTIPLIER, context.getRetryCount() - 1));
+            if (deadline.remainingMillis() < nextBackoff + MIN_ATTEMPT_MS) {
+                log.info("Skipping retry after {} attempts, {} left", context.getRetryCount(), deadline);
+                context.setExhaustedOnly();
+            }
+        });
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+    }
+}
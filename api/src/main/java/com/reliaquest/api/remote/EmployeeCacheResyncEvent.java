@@ -0,0 +1,14 @@
+package com.reliaquest.api.remote;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Raised when the change stream can no longer account for every remote change since its last event,
+ * so the employee cache has to be reloaded from a full roster fetch.
+ */
+public class EmployeeCacheResyncEvent extends ApplicationEvent {
+
+    public EmployeeCacheResyncEvent(Object source) {
+        super(source);
+    }
+}
@@ -0,0 +1,212 @@
+package com.reliaquest.api.remote;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.reliaquest.api.dto.EmployeeChangeEvent;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Holds a single long-lived subscription to the remote server-sent event stream and applies create/delete
+ * events to the employee cache as they happen. The subscription reconnects with exponential backoff and resumes
+ * from the last applied event id; while it is down {@link #isConnected()} is false and the scheduled poll takes over.
+ * Event ids are opaque ({@code <epoch>-<sequence>} on the mock server) and are sent back verbatim as
+ * {@code Last-Event-ID}; the remote answers an id it cannot resume from with a {@value #RESET_EVENT} event.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeStream {
+
+    static final String EMPLOYEE_EVENT = "employee";
+    static final String RESET_EVENT = "reset";
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final Cache<String, Employee> employeeCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String streamUrl;
+    private final long reconnectInitialMs;
+    private final long reconnectMaxMs;
+    private final int readTimeoutMs;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile String lastEventId;
+    private Thread worker;
+
+    @Autowired
+    public EmployeeChangeStream(Cache<String, Employee> employeeCache,
+                                ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper,
+                                ShardRouter shardRouter,
+                                @Value("${employee.change-stream.enabled:false}") boolean enabled,
+                                @Value("${employee.change-stream.path:events}") String path,
+                                @Value("${employee.change-stream.reconnect-initial-ms:1000}") long reconnectInitialMs,
+                                @Value("${employee.change-stream.reconnect-max-ms:60000}") long reconnectMaxMs,
+                                @Value("${employee.change-stream.read-timeout-ms:45000}") int readTimeoutMs) {
+        this.employeeCache = employeeCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled && !shardRouter.isSharded();
+        if (enabled && shardRouter.isSharded()) {
+            log.info("Change stream disabled while the remote is sharded, the cache is polled instead");
+        }
+        this.streamUrl = UriComponentsBuilder.fromHttpUrl(shardRouter.urlOf(0)).pathSegment(path).toUriString();
+        this.reconnectInitialMs = reconnectInitialMs;
+        this.reconnectMaxMs = reconnectMaxMs;
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "employee-change-stream");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        long backoff = reconnectInitialMs;
+        while (running) {
+            try {
+                consume();
+            } catch (IOException e) {
+                log.warn("Employee change stream unavailable, falling back to polling: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Employee change stream failed, falling back to polling", e);
+            }
+            if (connected) {
+                backoff = reconnectInitialMs;
+                connected = false;
+            }
+            try {
+                Thread.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = Math.min(backoff * 2, reconnectMaxMs);
+        }
+    }
+
+    private void consume() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(streamUrl).toURL().openConnection();
+        connection.setRequestProperty(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        if (lastEventId != null) {
+            connection.setRequestProperty(LAST_EVENT_ID, lastEventId);
+        }
+        connection.setConnectTimeout(readTimeoutMs);
+        connection.setReadTimeout(readTimeoutMs);
+        try {
+            int status = connection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("change stream returned HTTP " + status);
+            }
+            boolean resumed = lastEventId != null;
+            connected = true;
+            log.info("Subscribed to employee change stream {} after event {}", streamUrl, lastEventId);
+            if (!resumed) {
+                eventPublisher.publishEvent(new EmployeeCacheResyncEvent(this));
+            }
+            read(new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)));
+            log.info("Employee change stream closed by remote");
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private void read(BufferedReader reader) throws IOException {
+        String id = null;
+        String event = null;
+        StringBuilder data = new StringBuilder();
+        String line;
+        while (running && (line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                dispatch(id, event, data.toString());
+                id = null;
+                event = null;
+                data.setLength(0);
+                continue;
+            }
+            if (line.startsWith(":")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            String value = colon < 0 ? "" : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            switch (field) {
+                case "id" -> id = value;
+                case "event" -> event = value;
+                case "data" -> {
+                    if (data.length() > 0) {
+                        data.append('\n');
+                    }
+                    data.append(value);
+                }
+                default -> log.trace("Ignoring change stream field {}", field);
+            }
+        }
+    }
+
+    private void dispatch(String id, String event, String data) throws IOException {
+        if (RESET_EVENT.equals(event)) {
+            log.info("Change stream cannot resume after event {}, requesting cache resync", lastEventId);
+            lastEventId = id;
+            eventPublisher.publishEvent(new EmployeeCacheResyncEvent(this));
+            return;
+        }
+        if (!EMPLOYEE_EVENT.equals(event) || data.isEmpty()) {
+            return;
+        }
+        EmployeeChangeEvent change = objectMapper.readValue(data, EmployeeChangeEvent.class);
+        Employee employee = change.getEmployee();
+        if (employee != null && employee.getId() != null) {
+            if (change.getType() == EmployeeChangeEvent.Type.CREATED) {
+                employeeCache.put(employee.getId().toString(), employee);
+            } else if (change.getType() == EmployeeChangeEvent.Type.DELETED) {
+                employeeCache.invalidate(employee.getId().toString());
+            }
+            log.debug("Applied change event {} {} for employee {}", change.getSequence(), change.getType(), employee.getId());
+        }
+        if (id != null) {
+            lastEventId = id;
+        }
+    }
+}
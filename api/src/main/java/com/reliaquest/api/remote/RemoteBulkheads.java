@@ -0,0 +1,43 @@
+package com.reliaquest.api.remote;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Separate bulkheads for remote reads, writes, streams and background refresh, so a write storm, a slow refresh or
+ * clients slowly reading a stream cannot take the threads and connections latency-sensitive reads need.
+ */
+@Component
+public class RemoteBulkheads {
+
+    private final Map<RemoteCallClass, Bulkhead> bulkheads = new EnumMap<>(RemoteCallClass.class);
+
+    @Autowired
+    public RemoteBulkheads(MeterRegistry meterRegistry,
+                           @Value("${external.api.bulkhead.read.max-concurrent:16}") int readConcurrent,
+                           @Value("${external.api.bulkhead.read.max-queued:32}") int readQueued,
+                           @Value("${external.api.bulkhead.write.max-concurrent:4}") int writeConcurrent,
+                           @Value("${external.api.bulkhead.write.max-queued:8}") int writeQueued,
+                           @Value("${external.api.bulkhead.background.max-concurrent:1}") int backgroundConcurrent,
+                           @Value("${external.api.bulkhead.background.max-queued:1}") int backgroundQueued,
+                           @Value("${external.api.bulkhead.stream.max-concurrent:4}") int streamConcurrent,
+                           @Value("${external.api.bulkhead.stream.max-queued:0}") int streamQueued,
+                           @Value("${external.api.bulkhead.max-wait-ms:1000}") long maxWaitMs) {
+        bulkheads.put(RemoteCallClass.READ, new Bulkhead("read", readConcurrent, readQueued, maxWaitMs, meterRegistry));
+        bulkheads.put(RemoteCallClass.WRITE, new Bulkhead("write", writeConcurrent, writeQueued, maxWaitMs, meterRegistry));
+        bulkheads.put(RemoteCallClass.BACKGROUND,
+                new Bulkhead("background", backgroundConcurrent, backgroundQueued, maxWaitMs, meterRegistry));
+        bulkheads.put(RemoteCallClass.STREAM,
+                new Bulkhead("stream", streamConcurrent, streamQueued, maxWaitMs, meterRegistry));
+    }
+
+    public <T> T execute(RemoteCallClass callClass, Supplier<T> call) {
+        return bulkheads.get(callClass).execute(call);
+    }
+}
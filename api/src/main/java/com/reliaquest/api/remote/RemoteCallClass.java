@@ -0,0 +1,32 @@
+package com.reliaquest.api.remote;
+
+import java.util.function.Supplier;
+
+/**
+ * Kind of remote traffic a call belongs to, in priority order. {@link #STREAM} is a read whose body is copied to a
+ * client at the client's pace, so it lasts as long as the client takes and gets its own bulkhead. Reads made while
+ * running background work (see {@link #inBackground(Supplier)}) are classified as {@link #BACKGROUND} so they can be
+ * isolated from user traffic.
+ */
+public enum RemoteCallClass {
+    WRITE,
+    READ,
+    STREAM,
+    BACKGROUND;
+
+    private static final ThreadLocal<Boolean> BACKGROUND_WORK = ThreadLocal.withInitial(() -> false);
+
+    public static RemoteCallClass forRead() {
+        return BACKGROUND_WORK.get() ? BACKGROUND : READ;
+    }
+
+    public static <T> T inBackground(Supplier<T> work) {
+        boolean previous = BACKGROUND_WORK.get();
+        BACKGROUND_WORK.set(true);
+        try {
+            return work.get();
+        } finally {
+            BACKGROUND_WORK.set(previous);
+        }
+    }
+}
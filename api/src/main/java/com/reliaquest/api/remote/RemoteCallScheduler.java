@@ -0,0 +1,326 @@
+package com.reliaquest.api.remote;
+
+import com.reliaquest.api.exception.RemoteBudgetExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Shares the remote's rate-limit budget between all remote calls. The remote admits a fixed number of requests and
+ * then refuses everything until a quiet period has passed since the last admitted one; this scheduler keeps an
+ * estimate of that number (raised after a window is used up without a 429, lowered to what was actually admitted
+ * when one arrives) and counts calls against it.
+ * <p>
+ * Each shard is a separate remote with its own limit, so every shard has its own estimate, window and 429 state; a
+ * scatter-gather list spends one request from each shard's budget, and a 429 from one shard leaves the others alone.
+ * <p>
+ * Calls waiting for budget are served in {@link RemoteCallClass} order, so writes go before reads and reads before
+ * background work. Background calls never wait and only run while more than {@code foreground-reserve} requests are
+ * left. Background tasks submitted with {@link #submitBackground(String, Runnable)} are merged by key and deferred,
+ * with jitter, to the next window when any shard's budget is short or foreground calls are waiting.
+ */
+@Slf4j
+@Component
+public class RemoteCallScheduler {
+
+    private final boolean enabled;
+    private final long windowMs;
+    private final int minRequests;
+    private final int maxRequests;
+    private final int foregroundReserve;
+    private final long maxWaitMs;
+    private final long backgroundJitterMs;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService backgroundExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition budgetChanged = lock.newCondition();
+    private final Map<Integer, ShardBudget> budgets = new HashMap<>();
+    private final Map<String, Runnable> backgroundWork = new LinkedHashMap<>();
+    private long sequence;
+    private boolean drainScheduled;
+
+    private final Counter rejected;
+    private final Counter merged;
+    private final Counter rateLimitHits;
+
+    @Autowired
+    public RemoteCallScheduler(MeterRegistry meterRegistry,
+                               @Value("${external.api.scheduler.enabled:true}") boolean enabled,
+                               @Value("${external.api.scheduler.window-ms:60000}") long windowMs,
+                               @Value("${external.api.scheduler.min-requests:5}") int minRequests,
+                               @Value("${external.api.scheduler.max-requests:10}") int maxRequests,
+                               @Value("${external.api.scheduler.foreground-reserve:2}") int foregroundReserve,
+                               @Value("${external.api.scheduler.max-wait-ms:1000}") long maxWaitMs,
+                               @Value("${external.api.scheduler.background-jitter-ms:5000}") long backgroundJitterMs) {
+        this(meterRegistry, enabled, windowMs, minRequests, maxRequests, foregroundReserve, maxWaitMs,
+                backgroundJitterMs, System::currentTimeMillis);
+    }
+
+    RemoteCallScheduler(MeterRegistry meterRegistry, boolean enabled, long windowMs, int minRequests, int maxRequests,
+                        int foregroundReserve, long maxWaitMs, long backgroundJitterMs, LongSupplier clock) {
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.minRequests = minRequests;
+        this.maxRequests = maxRequests;
+        this.foregroundReserve = foregroundReserve;
+        this.maxWaitMs = maxWaitMs;
+        this.backgroundJitterMs = backgroundJitterMs;
+        this.clock = clock;
+        this.budgets.put(0, new ShardBudget());
+        this.backgroundExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "remote-background");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rejected = Counter.builder("remote.scheduler.rejected").register(meterRegistry);
+        this.merged = Counter.builder("remote.scheduler.background.merged").register(meterRegistry);
+        this.rateLimitHits = Counter.builder("remote.scheduler.rate-limited").register(meterRegistry);
+        Gauge.builder("remote.scheduler.remaining", this, RemoteCallScheduler::remaining).register(meterRegistry);
+        Gauge.builder("remote.scheduler.waiting", this, RemoteCallScheduler::waiting).register(meterRegistry);
+    }
+
+    public <T> T execute(RemoteCallClass callClass, Supplier<T> call) {
+        return execute(0, callClass, call);
+    }
+
+    /**
+     * Runs a call to one shard against that shard's budget.
+     */
+    public <T> T execute(int shard, RemoteCallClass callClass, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        acquire(shard, callClass);
+        try {
+            return call.get();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            onRateLimited(shard);
+            throw e;
+        }
+    }
+
+    /**
+     * Queues background work under {@code key}; work already queued under the same key is kept and this submission
+     * is merged into it.
+     */
+    public void submitBackground(String key, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return;
+        }
+        lock.lock();
+        try {
+            if (backgroundWork.putIfAbsent(key, task) != null) {
+                merged.increment();
+                log.debug("Merged background work {} into queued run", key);
+                return;
+            }
+            if (!drainScheduled) {
+                drainScheduled = true;
+                backgroundExecutor.execute(this::drainBackground);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return requests left in the current windows, summed over shards
+     */
+    public int remaining() {
+        lock.lock();
+        try {
+            return budgets.values().stream().mapToInt(budget -> {
+                budget.refill();
+                return budget.estimatedRequests - budget.used;
+            }).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int remaining(int shard) {
+        lock.lock();
+        try {
+            ShardBudget budget = budget(shard);
+            budget.refill();
+            return budget.estimatedRequests - budget.used;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int waiting() {
+        lock.lock();
+        try {
+            return budgets.values().stream().mapToInt(budget -> budget.waiters.size()).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backgroundExecutor.shutdownNow();
+    }
+
+    private void acquire(int shard, RemoteCallClass callClass) {
+        long waitMs = callClass == RemoteCallClass.BACKGROUND ? 0 : Deadline.current()
+                .map(deadline -> Math.min(maxWaitMs, deadline.remainingMillis()))
+                .orElse(maxWaitMs);
+        long giveUpAt = clock.getAsLong() + waitMs;
+        lock.lock();
+        try {
+            ShardBudget budget = budget(shard);
+            Waiter waiter = new Waiter(callClass, sequence++);
+            budget.waiters.add(waiter);
+            try {
+                while (true) {
+                    budget.refill();
+                    if (budget.waiters.peek() == waiter && budget.hasBudgetFor(callClass)) {
+                        budget.used++;
+                        budget.lastAdmittedAt = clock.getAsLong();
+                        return;
+                    }
+                    long now = clock.getAsLong();
+                    if (now >= giveUpAt) {
+                        rejected.increment();
+                        throw new RemoteBudgetExhaustedException("Remote request budget exhausted for "
+                                + callClass.name().toLowerCase() + " call");
+                    }
+                    long wakeAt = budget.used >= budget.estimatedRequests
+                            ? Math.min(giveUpAt, budget.refillAt())
+                            : giveUpAt;
+                    budgetChanged.await(wakeAt - now, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.increment();
+                throw new RemoteBudgetExhaustedException("Interrupted waiting for remote request budget");
+            } finally {
+                budget.waiters.remove(waiter);
+                budgetChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onRateLimited(int shard) {
+        lock.lock();
+        try {
+            rateLimitHits.increment();
+            ShardBudget budget = budget(shard);
+            budget.rateLimited = true;
+            budget.estimatedRequests = Math.max(minRequests, Math.min(budget.estimatedRequests, budget.used - 1));
+            budget.used = budget.estimatedRequests;
+            log.debug("Remote shard {} rate limited, estimating {} requests per window", shard, budget.estimatedRequests);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ShardBudget budget(int shard) {
+        return budgets.computeIfAbsent(shard, key -> new ShardBudget());
+    }
+
+    private void drainBackground() {
+        Runnable task;
+        lock.lock();
+        try {
+            budgets.values().forEach(ShardBudget::refill);
+            if (backgroundWork.isEmpty()) {
+                drainScheduled = false;
+                return;
+            }
+            // Background work (the roster reload) touches every shard, so it waits for the shortest budget.
+            boolean ready = budgets.values().stream()
+                    .allMatch(budget -> budget.waiters.isEmpty() && budget.hasBudgetFor(RemoteCallClass.BACKGROUND));
+            if (!ready) {
+                long refillAt = budgets.values().stream().mapToLong(ShardBudget::refillAt).max().orElse(0);
+                long delayMs = Math.max(0, refillAt - clock.getAsLong())
+                        + ThreadLocalRandom.current().nextLong(backgroundJitterMs + 1);
+                log.debug("Deferring background remote work by {} ms", delayMs);
+                backgroundExecutor.schedule(this::drainBackground, delayMs, TimeUnit.MILLISECONDS);
+                return;
+            }
+            Iterator<Runnable> next = backgroundWork.values().iterator();
+            task = next.next();
+            next.remove();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("Background remote work failed", e);
+        }
+        backgroundExecutor.execute(this::drainBackground);
+    }
+
+    /**
+     * One shard's rate-limit estimate and window. Guarded by the scheduler's lock.
+     */
+    private final class ShardBudget {
+
+        private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+        private int estimatedRequests = minRequests;
+        private int used;
+        private long lastAdmittedAt;
+        private boolean rateLimited;
+
+        /**
+         * Starts a new window once the budget was used up and the remote's quiet period has passed. A window that
+         * ran out without a 429 suggests the estimate is low, so it is raised by one.
+         */
+        void refill() {
+            if (used >= estimatedRequests && clock.getAsLong() >= refillAt()) {
+                if (!rateLimited) {
+                    estimatedRequests = Math.min(maxRequests, estimatedRequests + 1);
+                }
+                used = 0;
+                rateLimited = false;
+                budgetChanged.signalAll();
+            }
+        }
+
+        long refillAt() {
+            return used >= estimatedRequests ? lastAdmittedAt + windowMs : clock.getAsLong();
+        }
+
+        boolean hasBudgetFor(RemoteCallClass callClass) {
+            int remaining = estimatedRequests - used;
+            return callClass == RemoteCallClass.BACKGROUND ? remaining > foregroundReserve : remaining > 0;
+        }
+    }
+
+    private record Waiter(RemoteCallClass callClass, long sequence) implements Comparable<Waiter> {
+
+        @Override
+        public int compareTo(Waiter other) {
+            int byClass = callClass.compareTo(other.callClass);
+            return byClass != 0 ? byClass : Long.compare(sequence, other.sequence);
+        }
+    }
+}
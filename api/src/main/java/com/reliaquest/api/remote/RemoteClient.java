@@ -1,5 +1,8 @@
 package com.reliaquest.api.remote;
 
+import com.reliaquest.api.dto.Response;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,103 +12,341 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+/**
+ * Calls the remote employee API. With several {@code external.api.base-urls} the backends are treated as shards (see
+ * {@link ShardRouter}): single-id calls go to the shard owning the id, creates are spread across shards, and list
+ * calls are scatter-gathered in parallel and merged. A list call still succeeds when only some shards answer; the
+ * merged {@link Response} then carries an error naming the missing shards.
+ */
 @Slf4j
 @Component
 @EnableRetry
 public class RemoteClient {
 
+    static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+    static final long RETRY_DELAY_MS = 2000;
+    static final double RETRY_MULTIPLIER = 2;
+
     private RestTemplate restTemplate;
-    private String clientUrl;
+    private ShardRouter shardRouter;
+    private ExecutorService scatterExecutor;
+    private List<MediaType> acceptTypes;
+    private RequestHedger requestHedger;
+    private RemoteBulkheads remoteBulkheads;
+    private RemoteCallScheduler remoteCallScheduler;
 
     @Autowired
-    public RemoteClient(@Value("${external.api.base-url:http://localhost:8080}") String externalApiBaseUrl) {
-        clientUrl = externalApiBaseUrl;
-        restTemplate = new RestTemplate();
+    public RemoteClient(ShardRouter shardRouter,
+                        @Value("${external.api.wire-format:json}") String wireFormat,
+                        @Value("${external.api.connect-timeout-ms:2000}") int connectTimeoutMs,
+                        @Value("${external.api.read-timeout-ms:10000}") int readTimeoutMs,
+                        @Value("${request.deadline.fallback-reserve-ms:50}") long fallbackReserveMs,
+                        RequestHedger requestHedger,
+                        RemoteBulkheads remoteBulkheads,
+                        RemoteCallScheduler remoteCallScheduler) {
+        this.shardRouter = shardRouter;
+        restTemplate = new RestTemplate(new DeadlineAwareRequestFactory(connectTimeoutMs, readTimeoutMs, fallbackReserveMs));
+        acceptTypes = acceptTypesFor(wireFormat);
+        this.requestHedger = requestHedger;
+        this.remoteBulkheads = remoteBulkheads;
+        this.remoteCallScheduler = remoteCallScheduler;
+        AtomicInteger threads = new AtomicInteger();
+        this.scatterExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "remote-scatter-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Retryable(
             retryFor = { HttpServerErrorException.class },
             maxAttempts = 3,
-            backoff = @Backoff(delay = 2000, multiplier = 2)
+            backoff = @Backoff(delay = RETRY_DELAY_MS, multiplier = RETRY_MULTIPLIER),
+            listeners = DeadlineRetryListener.BEAN_NAME
     )
     public <T> ResponseEntity<T> get(String endPoint, Map<String, String> queryParams, ParameterizedTypeReference<T> responseType) {
-        String uri = createUrl(endPoint,queryParams);
-        log.info("Sending GET request to URL: {}", uri);
-        return restTemplate.exchange(
-                uri,
-                HttpMethod.GET,
-                null,
-                responseType
-        );
+        HttpEntity<Void> request = new HttpEntity<>(acceptHeaders());
+        RemoteCallClass callClass = RemoteCallClass.forRead();
+        return onOwningShard(endPoint, shard -> {
+            String uri = createUrl(shard, endPoint, queryParams);
+            log.info("Sending GET request to URL: {}", uri);
+            ResponseEntity<T> response = requestHedger.execute(Deadline.propagate(() -> call(shard, callClass, () -> restTemplate.exchange(
+                    uri,
+                    HttpMethod.GET,
+                    request,
+                    responseType
+            ))));
+            learnPlacements(response.getBody(), shard);
+            return response;
+        });
     }
 
     @Retryable(
             retryFor = { HttpServerErrorException.class },
             maxAttempts = 3,
-            backoff = @Backoff(delay = 2000, multiplier = 2)
+            backoff = @Backoff(delay = RETRY_DELAY_MS, multiplier = RETRY_MULTIPLIER),
+            listeners = DeadlineRetryListener.BEAN_NAME
     )
     public <T> ResponseEntity<T> getList(String endPoint, Map<String, String> queryParams, ParameterizedTypeReference<T> responseType) {
-        String uri = createUrl(endPoint,queryParams);
-        log.info("Sending GET request to URL: {}", uri);
-        return restTemplate.exchange(
+        RemoteCallClass callClass = RemoteCallClass.forRead();
+        if (!shardRouter.isSharded()) {
+            return getListFromShard(0, endPoint, queryParams, responseType, callClass);
+        }
+        List<CompletableFuture<ResponseEntity<T>>> responses = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int target = shard;
+            responses.add(CompletableFuture.supplyAsync(Deadline.propagate(
+                    () -> getListFromShard(target, endPoint, queryParams, responseType, callClass)), scatterExecutor));
+        }
+        return gather(responses);
+    }
+
+    /**
+     * Issues a GET and hands the raw response body to the extractor without binding it to objects. The extractor
+     * only runs for a successful status, so a retry never follows bytes already consumed by the caller. Only the first
+     * shard is read, so callers check {@link #isSharded()} first.
+     */
+    @Retryable(
+            retryFor = { HttpServerErrorException.class },
+            maxAttempts = 3,
+            backoff = @Backoff(delay = RETRY_DELAY_MS, multiplier = RETRY_MULTIPLIER),
+            listeners = DeadlineRetryListener.BEAN_NAME
+    )
+    public <T> T stream(String endPoint, Map<String, String> queryParams, ResponseExtractor<T> responseExtractor) {
+        String uri = createUrl(0, endPoint, queryParams);
+        log.info("Streaming GET request to URL: {}", uri);
+        return call(0, RemoteCallClass.STREAM, () -> restTemplate.execute(
                 uri,
                 HttpMethod.GET,
-                null,
-                responseType
-        );
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                responseExtractor
+        ));
     }
 
     @Retryable(
             retryFor = { HttpServerErrorException.class },
             maxAttempts = 3,
-            backoff = @Backoff(delay = 2000, multiplier = 2)
+            backoff = @Backoff(delay = RETRY_DELAY_MS, multiplier = RETRY_MULTIPLIER),
+            listeners = DeadlineRetryListener.BEAN_NAME
     )
     public <T, R> ResponseEntity<T> post(String endPoint, R body, ParameterizedTypeReference<T> responseType) {
         HttpEntity<R> request = new HttpEntity<>(body, defaultHeaders());
-        String uri = createUrl(endPoint,null);
+        int shard = shardRouter.nextWriteShard();
+        String uri = createUrl(shard, endPoint, null);
 
         log.info("Sending POST request to URL: {}, body: {}", uri, body);
 
-        return restTemplate.exchange(
+        ResponseEntity<T> response = call(shard, RemoteCallClass.WRITE, () -> restTemplate.exchange(
                 uri,
                 HttpMethod.POST,
                 request,
                 responseType
-        );
+        ));
+        learnPlacements(response.getBody(), shard);
+        return response;
     }
 
     @Retryable(
             retryFor = { HttpServerErrorException.class },
             maxAttempts = 3,
-            backoff = @Backoff(delay = 2000, multiplier = 2)
+            backoff = @Backoff(delay = RETRY_DELAY_MS, multiplier = RETRY_MULTIPLIER),
+            listeners = DeadlineRetryListener.BEAN_NAME
     )
     public <T,R> ResponseEntity<T> delete(String endpoint, R body, ParameterizedTypeReference<T> responseType) {
         HttpEntity<R> request = new HttpEntity<>(body, defaultHeaders());
-        String url = createUrl(endpoint,null);
-        log.info("Sending DELETE request to URL: {}", url);
+        if (endpoint.isBlank()) {
+            return deleteByBody(request, responseType);
+        }
+        ResponseEntity<T> response = onOwningShard(endpoint, shard -> deleteOnShard(shard, endpoint, request, responseType));
+        shardRouter.forget(endpoint);
+        return response;
+    }
+
+    public boolean isSharded() {
+        return shardRouter.isSharded();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scatterExecutor.shutdownNow();
+    }
 
-        return restTemplate.exchange(
+    private <T> ResponseEntity<T> getListFromShard(int shard, String endPoint, Map<String, String> queryParams,
+                                                   ParameterizedTypeReference<T> responseType, RemoteCallClass callClass) {
+        String uri = createUrl(shard, endPoint, queryParams);
+        log.info("Sending GET request to URL: {}", uri);
+        ResponseEntity<T> response = call(shard, callClass, () -> restTemplate.exchange(
+                uri,
+                HttpMethod.GET,
+                new HttpEntity<>(acceptHeaders()),
+                responseType
+        ));
+        learnPlacements(response.getBody(), shard);
+        return response;
+    }
+
+    private <T, R> ResponseEntity<T> deleteOnShard(int shard, String endpoint, HttpEntity<R> request,
+                                                   ParameterizedTypeReference<T> responseType) {
+        String url = createUrl(shard, endpoint, null);
+        log.info("Sending DELETE request to URL: {}", url);
+        return call(shard, RemoteCallClass.WRITE, () -> restTemplate.exchange(
                 url,
                 HttpMethod.DELETE,
                 request,
                 responseType
-        );
+        ));
+    }
+
+    /**
+     * A delete identified only by its body (the name-based delete) is offered to each shard in turn until one
+     * reports success.
+     */
+    private <T, R> ResponseEntity<T> deleteByBody(HttpEntity<R> request, ParameterizedTypeReference<T> responseType) {
+        ResponseEntity<T> response = null;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            response = deleteOnShard(shard, "", request, responseType);
+            if (response.getBody() instanceof Response<?> body && Boolean.TRUE.equals(body.getData())) {
+                break;
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Runs the call on the shard that owns the id. When the owner is only a guess from the hash ring and it answers
+     * 404, the other shards are asked in turn.
+     */
+    private <T> ResponseEntity<T> onOwningShard(String id, ShardCall<T> shardCall) {
+        int shard = shardRouter.shardFor(id);
+        boolean placed = shardRouter.isPlaced(id);
+        try {
+            return shardCall.call(shard);
+        } catch (HttpClientErrorException.NotFound notFound) {
+            shardRouter.forget(id);
+            if (placed || !shardRouter.isSharded()) {
+                throw notFound;
+            }
+            for (int other = 0; other < shardRouter.shardCount(); other++) {
+                if (other == shard) {
+                    continue;
+                }
+                try {
+                    return shardCall.call(other);
+                } catch (HttpClientErrorException.NotFound ignored) {
+                    // not on this shard either
+                }
+            }
+            throw notFound;
+        }
+    }
+
+    /**
+     * Merges per-shard list responses. Shards that failed are left out and named in the merged response's error;
+     * only when every shard failed is the first failure rethrown.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> gather(List<CompletableFuture<ResponseEntity<T>>> responses) {
+        List<Object> merged = new ArrayList<>();
+        List<String> unavailable = new ArrayList<>();
+        RuntimeException firstFailure = null;
+        for (int shard = 0; shard < responses.size(); shard++) {
+            try {
+                Object body = responses.get(shard).join().getBody();
+                if (body instanceof Response<?> response && response.getData() instanceof List<?> data) {
+                    merged.addAll(data);
+                }
+            } catch (CompletionException e) {
+                RuntimeException failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                if (!(failure instanceof RestClientException)) {
+                    throw failure;
+                }
+                log.warn("Shard {} unavailable for list request {}", shardRouter.urlOf(shard), failure.getMessage());
+                unavailable.add(shardRouter.urlOf(shard));
+                firstFailure = firstFailure == null ? failure : firstFailure;
+            }
+        }
+        if (unavailable.size() == responses.size()) {
+            throw firstFailure;
+        }
+        Response<List<Object>> body = new Response<>(merged);
+        if (!unavailable.isEmpty()) {
+            body.setError("Partial result, shards unavailable: " + unavailable);
+        }
+        return (ResponseEntity<T>) ResponseEntity.ok(body);
+    }
+
+    private void learnPlacements(Object body, int shard) {
+        if (!shardRouter.isSharded() || !(body instanceof Response<?> response)) {
+            return;
+        }
+        if (response.getData() instanceof Employee employee) {
+            place(employee, shard);
+        } else if (response.getData() instanceof List<?> data) {
+            data.forEach(item -> {
+                if (item instanceof Employee employee) {
+                    place(employee, shard);
+                }
+            });
+        }
+    }
+
+    private void place(Employee employee, int shard) {
+        if (employee.getId() != null) {
+            shardRouter.place(employee.getId().toString(), shard);
+        }
+    }
+
+    /**
+     * Each shard is a separate remote with its own rate limit, so calls are admitted against that shard's budget.
+     */
+    private <T> T call(int shard, RemoteCallClass callClass, Supplier<T> exchange) {
+        return remoteCallScheduler.execute(shard, callClass, () -> remoteBulkheads.execute(callClass, exchange));
     }
 
     private HttpHeaders defaultHeaders() {
-        HttpHeaders headers = new HttpHeaders();
+        HttpHeaders headers = acceptHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         return headers;
     }
 
-    private String createUrl(String endPoint, Map<String, String> queryParams){
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(clientUrl);
+    private HttpHeaders acceptHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(acceptTypes);
+        return headers;
+    }
+
+    /**
+     * Prefers the configured binary format and keeps JSON as a lower-quality alternative, so a remote without
+     * Smile/CBOR support still answers in JSON.
+     */
+    private static List<MediaType> acceptTypesFor(String wireFormat) {
+        MediaType jsonFallback = new MediaType("application", "json", 0.9);
+        return switch (wireFormat.toLowerCase()) {
+            case "smile" -> List.of(APPLICATION_SMILE, jsonFallback);
+            case "cbor" -> List.of(MediaType.APPLICATION_CBOR, jsonFallback);
+            default -> List.of(MediaType.APPLICATION_JSON);
+        };
+    }
+
+    private String createUrl(int shard, String endPoint, Map<String, String> queryParams){
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(shardRouter.urlOf(shard));
         if(!endPoint.isBlank()){
             builder.pathSegment(endPoint);
         }
@@ -115,4 +356,8 @@ public class RemoteClient {
         return builder.toUriString();
     }
 
+    @FunctionalInterface
+    private interface ShardCall<T> {
+        ResponseEntity<T> call(int shard);
+    }
 }
@@ -0,0 +1,224 @@
+package com.reliaquest.api.remote;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Hedges idempotent remote reads. If the first attempt hasn't answered within the hedge delay, a second identical
+ * request is sent; the first successful response wins and the other attempt is aborted by disconnecting its
+ * connection (see {@link AbortableAttempt}), which frees its bulkhead permit. A request the loser already sent
+ * stays counted in the rate-limit scheduler's window, since the remote has seen it.
+ * <p>
+ * The delay is either fixed or the configured percentile of recently observed latencies. Hedges are paid for from a
+ * token budget that every primary request tops up by {@code budget-ratio}, so hedging adds at most that fraction of
+ * extra remote traffic, and hedging is suspended for a cooldown after the remote answers 429.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+    private static final int LATENCY_SAMPLES = 512;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final boolean enabled;
+    private final long fixedDelayMs;
+    private final double percentile;
+    private final long minDelayMs;
+    private final double budgetRatio;
+    private final double maxBurst;
+    private final long rateLimitCooldownMs;
+    private final ExecutorService executor;
+
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int latencyCursor;
+    private volatile long observedDelayMs;
+    private double budget;
+    private volatile long suspendedUntil;
+
+    @Autowired
+    public RequestHedger(@Value("${external.api.hedging.enabled:false}") boolean enabled,
+                         @Value("${external.api.hedging.delay-ms:0}") long fixedDelayMs,
+                         @Value("${external.api.hedging.percentile:95}") double percentile,
+                         @Value("${external.api.hedging.min-delay-ms:50}") long minDelayMs,
+                         @Value("${external.api.hedging.budget-ratio:0.1}") double budgetRatio,
+                         @Value("${external.api.hedging.max-burst:3}") double maxBurst,
+                         @Value("${external.api.hedging.rate-limit-cooldown-ms:30000}") long rateLimitCooldownMs,
+                         @Value("${external.api.hedging.max-threads:32}") int maxThreads) {
+        this.enabled = enabled;
+        this.fixedDelayMs = fixedDelayMs;
+        this.percentile = percentile;
+        this.minDelayMs = minDelayMs;
+        this.budgetRatio = budgetRatio;
+        this.maxBurst = maxBurst;
+        this.rateLimitCooldownMs = rateLimitCooldownMs;
+        this.observedDelayMs = minDelayMs;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "remote-hedge-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        depositBudget();
+        Race<T> race = new Race<>();
+        try {
+            race.launch(call);
+        } catch (RejectedExecutionException e) {
+            return timed(call);
+        }
+        try {
+            return race.winner.get(hedgeDelayMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (tryAcquireHedge()) {
+                try {
+                    race.launch(call);
+                    log.debug("Hedging remote read after {} ms", hedgeDelayMs());
+                } catch (RejectedExecutionException rejected) {
+                    log.debug("No thread available to hedge remote read");
+                }
+            }
+            return await(race.winner);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted waiting for remote response", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } finally {
+            race.abortAll();
+        }
+    }
+
+    long hedgeDelayMs() {
+        return fixedDelayMs > 0 ? fixedDelayMs : observedDelayMs;
+    }
+
+    private <T> T timed(Supplier<T> call) {
+        long start = System.nanoTime();
+        T result = call.get();
+        recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private synchronized void recordLatency(long latencyMs) {
+        latencies[latencyCursor] = latencyMs;
+        latencyCursor = (latencyCursor + 1) % LATENCY_SAMPLES;
+        latencyCount++;
+        if (latencyCount % RECOMPUTE_EVERY == 0) {
+            long[] window = Arrays.copyOf(latencies, Math.min(latencyCount, LATENCY_SAMPLES));
+            Arrays.sort(window);
+            int rank = (int) Math.ceil(percentile / 100 * window.length) - 1;
+            observedDelayMs = Math.max(minDelayMs, window[Math.max(rank, 0)]);
+        }
+    }
+
+    private synchronized void depositBudget() {
+        budget = Math.min(maxBurst, budget + budgetRatio);
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (System.currentTimeMillis() < suspendedUntil || budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private static <T> T await(CompletableFuture<T> winner) {
+        try {
+            return winner.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The attempts racing for one read. The winner completes with the first success, or with the last failure
+     * once no attempt is left outstanding.
+     */
+    private class Race<T> {
+
+        private final CompletableFuture<T> winner = new CompletableFuture<>();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicReference<RuntimeException> lastError = new AtomicReference<>();
+        private final List<Future<?>> tasks = new CopyOnWriteArrayList<>();
+        private final List<AbortableAttempt> attempts = new CopyOnWriteArrayList<>();
+
+        void launch(Supplier<T> call) {
+            outstanding.incrementAndGet();
+            AbortableAttempt attempt = new AbortableAttempt();
+            try {
+                tasks.add(executor.submit(() -> run(attempt, call)));
+                attempts.add(attempt);
+            } catch (RejectedExecutionException e) {
+                settle();
+                throw e;
+            }
+        }
+
+        /**
+         * Stops every attempt still running: interrupts those waiting for a bulkhead or rate-limit slot and
+         * disconnects those blocked on the remote.
+         */
+        void abortAll() {
+            tasks.forEach(task -> task.cancel(true));
+            attempts.forEach(AbortableAttempt::abort);
+        }
+
+        private void run(AbortableAttempt attempt, Supplier<T> call) {
+            try {
+                winner.complete(attempt.run(() -> timed(call)));
+            } catch (RuntimeException e) {
+                if (e instanceof HttpClientErrorException.TooManyRequests) {
+                    suspendedUntil = System.currentTimeMillis() + rateLimitCooldownMs;
+                }
+                lastError.set(e);
+                settle();
+            }
+        }
+
+        private void settle() {
+            if (outstanding.decrementAndGet() == 0 && lastError.get() != null) {
+                winner.completeExceptionally(lastError.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.remote;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps employee ids to backend shards. Each mock server instance owns the employees it created, so the shard that
+ * answered for an id (in a list, a create or a lookup) is remembered and used first; ids not seen yet are routed
+ * with a consistent hash ring ({@code virtual-nodes} points per shard) so adding a shard only moves a fraction of
+ * the guesses. Creates are spread round-robin.
+ */
+@Slf4j
+@Component
+public class ShardRouter {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final List<String> shardUrls;
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+    private final Cache<String, Integer> placements;
+    private final AtomicInteger nextWrite = new AtomicInteger();
+
+    @Autowired
+    public ShardRouter(@Value("${external.api.base-url:http://localhost:8080}") String baseUrl,
+                       @Value("${external.api.base-urls:}") String baseUrls,
+                       @Value("${external.api.sharding.virtual-nodes:64}") int virtualNodes,
+                       @Value("${external.api.sharding.max-placements:100000}") long maxPlacements) {
+        List<String> urls = Arrays.stream(baseUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        this.shardUrls = urls.isEmpty() ? List.of(baseUrl) : urls;
+        for (int shard = 0; shard < shardUrls.size(); shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash(shardUrls.get(shard) + "#" + node), shard);
+            }
+        }
+        this.placements = CacheBuilder.newBuilder().maximumSize(maxPlacements).build();
+        if (isSharded()) {
+            log.info("Routing remote calls across {} shards: {}", shardUrls.size(), shardUrls);
+        }
+    }
+
+    public boolean isSharded() {
+        return shardUrls.size() > 1;
+    }
+
+    public int shardCount() {
+        return shardUrls.size();
+    }
+
+    public String urlOf(int shard) {
+        return shardUrls.get(shard);
+    }
+
+    /**
+     * @return the shard the id was last seen on, or its position on the hash ring
+     */
+    public int shardFor(String id) {
+        Integer placed = placements.getIfPresent(id);
+        return placed != null ? placed : ringShardFor(id);
+    }
+
+    public boolean isPlaced(String id) {
+        return placements.getIfPresent(id) != null;
+    }
+
+    public int ringShardFor(String id) {
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(hash(id));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public int nextWriteShard() {
+        return Math.floorMod(nextWrite.getAndIncrement(), shardUrls.size());
+    }
+
+    public void place(String id, int shard) {
+        if (isSharded()) {
+            placements.put(id, shard);
+        }
+    }
+
+    public void forget(String id) {
+        placements.invalidate(id);
+    }
+
+    private static long hash(String key) {
+        return HASH.hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+}
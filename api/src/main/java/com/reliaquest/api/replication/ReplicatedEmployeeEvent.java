@@ -0,0 +1,29 @@
+package com.reliaquest.api.replication;
+
+import com.reliaquest.api.model.Employee;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * A single-employee change made on a peer: either {@code employee} was created or {@code removedId} was deleted.
+ */
+@Getter
+public class ReplicatedEmployeeEvent extends ApplicationEvent {
+
+    private final Employee employee;
+    private final String removedId;
+
+    private ReplicatedEmployeeEvent(Object source, Employee employee, String removedId) {
+        super(source);
+        this.employee = employee;
+        this.removedId = removedId;
+    }
+
+    public static ReplicatedEmployeeEvent put(Object source, Employee employee) {
+        return new ReplicatedEmployeeEvent(source, employee, null);
+    }
+
+    public static ReplicatedEmployeeEvent removed(Object source, String id) {
+        return new ReplicatedEmployeeEvent(source, null, id);
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.replication;
+
+import com.reliaquest.api.model.Employee;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * A full roster snapshot received from the replication leader.
+ */
+@Getter
+public class ReplicatedRosterEvent extends ApplicationEvent {
+
+    private final List<Employee> employees;
+
+    public ReplicatedRosterEvent(Object source, List<Employee> employees) {
+        super(source);
+        this.employees = employees;
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.replication;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Raised when this replica becomes the replication leader and takes over refreshing the roster for its peers.
+ */
+public class ReplicationLeaderEvent extends ApplicationEvent {
+
+    public ReplicationLeaderEvent(Object source) {
+        super(source);
+    }
+}
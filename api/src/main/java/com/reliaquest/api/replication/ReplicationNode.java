@@ -0,0 +1,424 @@
+package com.reliaquest.api.replication;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Optional replication of the employee cache between api replicas on a static peer list.
+ * <p>
+ * Every replica listens on {@code replication.port} and keeps one outbound TCP connection per peer. A frame is a type
+ * byte, a payload length and the payload: heartbeats carry the sender's node id, snapshots the full roster as JSON,
+ * and deltas one created employee or one deleted id. The live replica with the lowest node id leads; only it polls
+ * the remote, pushing each refreshed roster to its peers and the latest one to any peer it reconnects to. Writes
+ * made on any replica are pushed to the others as deltas.
+ * <p>
+ * Each peer has its own sender thread, so a peer that stops reading only holds up its own frames. A write blocked for
+ * longer than the peer timeout, or more than {@value #MAX_QUEUED_FRAMES} frames waiting for a peer, drops that
+ * connection; frames queued for it are discarded until the next heartbeat reconnects, and the leader then resends its
+ * latest roster.
+ * <p>
+ * The protocol has no authentication or encryption: anyone who can reach the port can replace the cached roster.
+ * The listener therefore binds to {@code replication.bind-address}, loopback by default, and should only be opened
+ * to a private network the replicas share.
+ */
+@Slf4j
+@Component
+public class ReplicationNode {
+
+    static final byte HEARTBEAT = 1;
+    static final byte SNAPSHOT = 2;
+    static final byte PUT = 3;
+    static final byte REMOVE = 4;
+    private static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+    private static final int MAX_QUEUED_FRAMES = 256;
+    private static final TypeReference<List<Employee>> ROSTER_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int nodeId;
+    private final String bindAddress;
+    private final int port;
+    private final List<Peer> peers;
+    private final long heartbeatMs;
+    private final long peerTimeoutMs;
+    private final Map<Integer, Long> lastSeen = new ConcurrentHashMap<>();
+
+    private volatile byte[] lastSnapshot;
+    private volatile boolean leader;
+    private long startedAt;
+    private ServerSocket serverSocket;
+    private ScheduledExecutorService heartbeats;
+    private ExecutorService inbound;
+
+    @Autowired
+    public ReplicationNode(ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${replication.enabled:false}") boolean enabled,
+                           @Value("${replication.node-id:1}") int nodeId,
+                           @Value("${replication.bind-address:127.0.0.1}") String bindAddress,
+                           @Value("${replication.port:9101}") int port,
+                           @Value("${replication.peers:}") String peers,
+                           @Value("${replication.heartbeat-ms:1000}") long heartbeatMs,
+                           @Value("${replication.peer-timeout-ms:3000}") long peerTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.nodeId = nodeId;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.peers = Arrays.stream(peers.split(","))
+                .map(String::trim)
+                .filter(peer -> !peer.isEmpty())
+                .map(Peer::parse)
+                .toList();
+        this.heartbeatMs = heartbeatMs;
+        this.peerTimeoutMs = peerTimeoutMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || serverSocket != null) {
+            return;
+        }
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(bindAddress, port));
+        } catch (IOException e) {
+            closeQuietly(serverSocket);
+            serverSocket = null;
+            throw new UncheckedIOException("Cannot listen for replication peers on " + bindAddress + ":" + port, e);
+        }
+        startedAt = System.currentTimeMillis();
+        inbound = Executors.newCachedThreadPool(daemonThreads("replication-inbound-"));
+        heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("replication-heartbeat-"));
+        inbound.execute(this::acceptPeers);
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatMs, TimeUnit.MILLISECONDS);
+        log.info("Replication node {} listening on {}:{} with peers {}", nodeId, bindAddress, port, peers);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+        heartbeats.shutdownNow();
+        inbound.shutdownNow();
+        closeQuietly(serverSocket);
+        peers.forEach(Peer::shutdown);
+    }
+
+    /**
+     * @return true if this replica should poll the remote: always without replication, otherwise while no live peer
+     * has a lower node id. No replica leads during the first peer timeout after startup, while peers announce
+     * themselves.
+     */
+    public boolean isLeader() {
+        return !enabled || leader;
+    }
+
+    public void publishSnapshot(List<Employee> employees) {
+        if (!enabled) {
+            return;
+        }
+        byte[] payload = encode(employees);
+        lastSnapshot = payload;
+        broadcast(SNAPSHOT, payload);
+    }
+
+    public void publishPut(Employee employee) {
+        if (enabled) {
+            broadcast(PUT, encode(employee));
+        }
+    }
+
+    public void publishRemove(String id) {
+        if (enabled) {
+            broadcast(REMOVE, id.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Queues the frame on every peer's sender, so each peer sees frames in publish order and neither callers nor
+     * other peers wait on a slow one.
+     */
+    private void broadcast(byte type, byte[] payload) {
+        if (heartbeats == null) {
+            return;
+        }
+        peers.forEach(peer -> peer.submit(() -> peer.send(type, payload)));
+    }
+
+    private void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            boolean nowLeader = now - startedAt >= peerTimeoutMs
+                    && peers.stream().noneMatch(peer -> peer.id < nodeId && isAlive(peer.id, now));
+            byte[] beat = ByteBuffer.allocate(Integer.BYTES).putInt(nodeId).array();
+            for (Peer peer : peers) {
+                peer.abortIfStalled(now, peerTimeoutMs);
+                peer.submit(() -> {
+                    if (!peer.isConnected() && peer.connect((int) heartbeatMs) && nowLeader && lastSnapshot != null) {
+                        peer.send(SNAPSHOT, lastSnapshot);
+                    }
+                    peer.send(HEARTBEAT, beat);
+                });
+            }
+            if (nowLeader != leader) {
+                leader = nowLeader;
+                if (nowLeader) {
+                    log.info("Replica {} is now the replication leader", nodeId);
+                    eventPublisher.publishEvent(new ReplicationLeaderEvent(this));
+                } else {
+                    log.info("Replica {} now follows a peer with a lower node id", nodeId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Replication heartbeat failed", e);
+        }
+    }
+
+    private boolean isAlive(int peerId, long now) {
+        Long seen = lastSeen.get(peerId);
+        return seen != null && now - seen <= peerTimeoutMs;
+    }
+
+    private void acceptPeers() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                inbound.execute(() -> readFrames(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("Failed to accept replication peer: {}", e.getMessage());
+                }
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+        }
+    }
+
+    private void readFrames(Socket socket) {
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            socket.setSoTimeout((int) (peerTimeoutMs * 2));
+            while (true) {
+                byte type = in.readByte();
+                int length = in.readInt();
+                if (length < 0 || length > MAX_FRAME_BYTES) {
+                    throw new IOException("invalid replication frame length " + length);
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                handle(type, payload);
+            }
+        } catch (EOFException e) {
+            log.debug("Replication peer {} disconnected", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            log.debug("Replication peer {} dropped: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        }
+    }
+
+    void handle(byte type, byte[] payload) throws IOException {
+        switch (type) {
+            case HEARTBEAT -> lastSeen.put(ByteBuffer.wrap(payload).getInt(), System.currentTimeMillis());
+            case SNAPSHOT -> {
+                List<Employee> employees = objectMapper.readValue(payload, ROSTER_TYPE);
+                log.info("Received replicated roster of {} employees", employees.size());
+                eventPublisher.publishEvent(new ReplicatedRosterEvent(this, employees));
+            }
+            case PUT -> eventPublisher.publishEvent(
+                    ReplicatedEmployeeEvent.put(this, objectMapper.readValue(payload, Employee.class)));
+            case REMOVE -> eventPublisher.publishEvent(
+                    ReplicatedEmployeeEvent.removed(this, new String(payload, StandardCharsets.UTF_8)));
+            default -> log.warn("Ignoring replication frame of unknown type {}", type);
+        }
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(ServerSocket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("Error closing replication listener", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Outbound connection to one peer, given as {@code nodeId@host:port}. The connection is only used from the peer's
+     * sender thread; other threads may only {@link #abort()} it.
+     */
+    private static final class Peer {
+        private final int id;
+        private final String host;
+        private final int port;
+        private final ThreadPoolExecutor sender;
+        private volatile Socket socket;
+        private volatile long writingSince;
+        private DataOutputStream out;
+
+        private Peer(int id, String host, int port) {
+            this.id = id;
+            this.host = host;
+            this.port = port;
+            this.sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(MAX_QUEUED_FRAMES), daemonThreads("replication-peer-" + id + "-"));
+        }
+
+        static Peer parse(String spec) {
+            int at = spec.indexOf('@');
+            int colon = spec.lastIndexOf(':');
+            if (at < 1 || colon < at) {
+                throw new IllegalArgumentException("Replication peer must be nodeId@host:port, got " + spec);
+            }
+            return new Peer(Integer.parseInt(spec.substring(0, at)), spec.substring(at + 1, colon),
+                    Integer.parseInt(spec.substring(colon + 1)));
+        }
+
+        void submit(Runnable task) {
+            try {
+                sender.execute(task);
+            } catch (RejectedExecutionException e) {
+                if (sender.isShutdown()) {
+                    return;
+                }
+                log.warn("Replication peer {} is {} frames behind, dropping its connection", this, MAX_QUEUED_FRAMES);
+                abort();
+            }
+        }
+
+        boolean isConnected() {
+            return out != null;
+        }
+
+        boolean connect(int timeoutMs) {
+            Socket connection = new Socket();
+            try {
+                connection.connect(new InetSocketAddress(host, port), timeoutMs);
+                socket = connection;
+                out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+                log.info("Connected to replication peer {}", this);
+                return true;
+            } catch (IOException e) {
+                log.debug("Replication peer {} unreachable: {}", this, e.getMessage());
+                try {
+                    connection.close();
+                } catch (IOException ignored) {
+                    // nothing was sent on it
+                }
+                return false;
+            }
+        }
+
+        void send(byte type, byte[] payload) {
+            if (out == null) {
+                return;
+            }
+            writingSince = System.currentTimeMillis();
+            try {
+                out.writeByte(type);
+                out.writeInt(payload.length);
+                out.write(payload);
+                out.flush();
+            } catch (IOException e) {
+                log.debug("Lost connection to replication peer {}: {}", this, e.getMessage());
+                close();
+            } finally {
+                writingSince = 0;
+            }
+        }
+
+        /**
+         * Sockets have no write timeout, so a write that has been blocked too long is failed by closing the socket.
+         */
+        void abortIfStalled(long now, long timeoutMs) {
+            long since = writingSince;
+            if (since != 0 && now - since > timeoutMs) {
+                log.warn("Write to replication peer {} stalled for {} ms, dropping its connection", this, now - since);
+                abort();
+            }
+        }
+
+        /**
+         * Closes the socket from any thread; a write blocked on it fails and the sender thread cleans up.
+         */
+        void abort() {
+            Socket current = socket;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    log.debug("Error closing replication connection", e);
+                }
+            }
+        }
+
+        void close() {
+            abort();
+            socket = null;
+            out = null;
+        }
+
+        void shutdown() {
+            sender.shutdownNow();
+            abort();
+        }
+
+        @Override
+        public String toString() {
+            return id + "@" + host + ":" + port;
+        }
+    }
+}
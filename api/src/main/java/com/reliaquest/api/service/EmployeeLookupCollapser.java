@@ -0,0 +1,204 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.Response;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.Deadline;
+import com.reliaquest.api.remote.RemoteClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collapses concurrent single-id lookups into one remote call. Distinct ids arriving within {@code window-ms} of the
+ * first, up to {@code max-batch} of them, form a batch; a batch of one is fetched by id and a larger one with a single
+ * roster fetch, whose results are handed back to every waiting caller. Callers asking for the same id share one slot.
+ * <p>
+ * The batch runs under the latest deadline of its callers, so a caller with a short deadline cannot fail the others.
+ * Each caller stops waiting at its own deadline, and gets a {@link ResourceAccessException} so it can fall back to
+ * the cache.
+ */
+@Slf4j
+@Component
+public class EmployeeLookupCollapser {
+
+    private final RemoteClient remoteClient;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxBatch;
+    private final ScheduledExecutorService executor;
+    private final DistributionSummary batchSizes;
+
+    private Batch current;
+
+    @Autowired
+    public EmployeeLookupCollapser(RemoteClient remoteClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${employee.lookup-batching.enabled:true}") boolean enabled,
+                                   @Value("${employee.lookup-batching.window-ms:5}") long windowMs,
+                                   @Value("${employee.lookup-batching.max-batch:16}") int maxBatch,
+                                   @Value("${employee.lookup-batching.threads:4}") int threads) {
+        this.remoteClient = remoteClient;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxBatch = maxBatch;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "employee-lookup-batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("employee.lookup.batch-size").register(meterRegistry);
+    }
+
+    /**
+     * @return the employee, or null if the remote does not know the id
+     */
+    public Employee lookup(String id) {
+        if (!enabled) {
+            return fetchOne(id);
+        }
+        Deadline deadline = Deadline.current().orElse(null);
+        CompletableFuture<Employee> result;
+        Batch full = null;
+        synchronized (this) {
+            if (current == null) {
+                Batch batch = new Batch(deadline);
+                current = batch;
+                executor.schedule(() -> flush(batch), windowMs, TimeUnit.MILLISECONDS);
+            } else {
+                current.deadline = Deadline.later(current.deadline, deadline);
+            }
+            result = current.lookups.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (current.lookups.size() >= maxBatch) {
+                full = current;
+            }
+        }
+        if (full != null) {
+            flush(full);
+        }
+        return await(result, deadline);
+    }
+
+    private static Employee await(CompletableFuture<Employee> result, Deadline deadline) {
+        try {
+            if (deadline == null) {
+                return result.join();
+            }
+            return result.get(Math.max(deadline.remainingMillis(), 0), TimeUnit.MILLISECONDS);
+        } catch (CompletionException | ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("request deadline exceeded waiting for batched employee lookup");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("interrupted waiting for batched employee lookup");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if (current != batch) {
+                return;
+            }
+            current = null;
+        }
+        batchSizes.record(batch.lookups.size());
+        Deadline previous = Deadline.current().orElse(null);
+        if (batch.deadline != null) {
+            Deadline.set(batch.deadline);
+        }
+        try {
+            resolve(batch.lookups);
+        } finally {
+            if (previous == null) {
+                Deadline.clear();
+            } else {
+                Deadline.set(previous);
+            }
+        }
+    }
+
+    private void resolve(Map<String, CompletableFuture<Employee>> lookups) {
+        try {
+            if (lookups.size() == 1) {
+                Map.Entry<String, CompletableFuture<Employee>> only = lookups.entrySet().iterator().next();
+                only.getValue().complete(fetchOne(only.getKey()));
+                return;
+            }
+            log.debug("Resolving {} employee lookups with one roster fetch", lookups.size());
+            Response<List<Employee>> roster = fetchRoster();
+            Map<String, Employee> employees = new HashMap<>();
+            if (roster != null && roster.getData() != null) {
+                roster.getData().forEach(employee -> employees.put(employee.getId().toString(), employee));
+            }
+            boolean partial = roster != null && roster.getError() != null;
+            lookups.forEach((id, result) -> {
+                Employee employee = employees.get(id);
+                if (employee == null && partial) {
+                    resolveSingly(id, result);
+                } else {
+                    result.complete(employee);
+                }
+            });
+        } catch (RuntimeException e) {
+            lookups.values().forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private Employee fetchOne(String id) {
+        Response<Employee> response = remoteClient.get(id, null,
+                new ParameterizedTypeReference<Response<Employee>>() {
+                }).getBody();
+        return response != null ? response.getData() : null;
+    }
+
+    /**
+     * Used for ids missing from a partial roster, which may live on a shard that did not answer.
+     */
+    private void resolveSingly(String id, CompletableFuture<Employee> result) {
+        try {
+            result.complete(fetchOne(id));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private Response<List<Employee>> fetchRoster() {
+        return remoteClient.getList("", null,
+                new ParameterizedTypeReference<Response<List<Employee>>>() {
+                }).getBody();
+    }
+
+    private static final class Batch {
+        private Deadline deadline;
+        private final Map<String, CompletableFuture<Employee>> lookups = new LinkedHashMap<>();
+
+        private Batch(Deadline deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCacheListener;
+import com.reliaquest.api.dto.EmployeeQuery;
+import com.reliaquest.api.model.Employee;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Roaring-bitmap indexes over the cached roster, kept in sync through cache events.
+ * <p>
+ * Each cached employee is assigned a dense slot; there is one bitmap per title, per age and per salary bucket.
+ * A query intersects the bitmaps for its title, age range and salary range. It then checks the remaining
+ * predicates (name substring and exact salary bounds at the bucket edges) on the candidates. That scan runs on
+ * the common fork-join pool once there are enough candidates.
+ * <p>
+ * Results only cover cached employees. The cache is bounded and expiring, so callers check
+ * {@link RosterStatistics#isComplete()} and otherwise filter a full roster with {@link #matching(EmployeeQuery)}.
+ */
+@Component
+public class EmployeeQueryIndex implements EmployeeCacheListener {
+
+    static final int MAX_AGE = 127;
+    private static final int PARALLEL_SCAN_THRESHOLD = 10_000;
+
+    private final int salaryBucketWidth;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private final List<Employee> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byTitle = new HashMap<>();
+    private final RoaringBitmap[] byAge = new RoaringBitmap[MAX_AGE + 1];
+    private final TreeMap<Integer, RoaringBitmap> bySalaryBucket = new TreeMap<>();
+
+    public EmployeeQueryIndex(@Value("${employee.query.salary-bucket-width:10000}") int salaryBucketWidth) {
+        this.salaryBucketWidth = salaryBucketWidth;
+    }
+
+    @Override
+    public void onPut(Employee previous, Employee current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                remove(previous);
+            }
+            add(current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(Employee removed) {
+        lock.writeLock().lock();
+        try {
+            remove(removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Employee> query(EmployeeQuery query) {
+        Employee[] candidates;
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = live.clone();
+            if (query.getTitle() != null) {
+                matches.and(byTitle.getOrDefault(titleKey(query.getTitle()), new RoaringBitmap()));
+            }
+            if (query.hasAgeRange()) {
+                matches.and(ageRange(query.getMinAge(), query.getMaxAge()));
+            }
+            if (query.hasSalaryRange()) {
+                matches.and(salaryRange(query.getMinSalary(), query.getMaxSalary()));
+            }
+            candidates = new Employee[matches.getCardinality()];
+            int i = 0;
+            for (int slot : matches) {
+                candidates[i++] = slots.get(slot);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scan(candidates, residual(query));
+    }
+
+    /**
+     * The whole query as a predicate, for filtering a roster that did not come from the index.
+     */
+    public static Predicate<Employee> matching(EmployeeQuery query) {
+        Predicate<Employee> predicate = employee -> true;
+        if (query.getTitle() != null) {
+            String title = titleKey(query.getTitle());
+            predicate = predicate.and(employee -> employee.getTitle() != null
+                    && titleKey(employee.getTitle()).equals(title));
+        }
+        if (query.hasAgeRange()) {
+            predicate = predicate.and(employee -> employee.getAge() != null
+                    && inRange(employee.getAge(), query.getMinAge(), query.getMaxAge()));
+        }
+        if (query.hasSalaryRange()) {
+            predicate = predicate.and(employee -> employee.getSalary() != null
+                    && inRange(employee.getSalary(), query.getMinSalary(), query.getMaxSalary()));
+        }
+        return predicate.and(residual(query));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        Integer existing = slotsById.get(employee.getId().toString());
+        if (existing != null) {
+            remove(slots.get(existing));
+        }
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        if (slot == slots.size()) {
+            slots.add(employee);
+        } else {
+            slots.set(slot, employee);
+        }
+        slotsById.put(employee.getId().toString(), slot);
+        live.add(slot);
+        if (employee.getTitle() != null) {
+            byTitle.computeIfAbsent(titleKey(employee.getTitle()), key -> new RoaringBitmap()).add(slot);
+        }
+        if (employee.getAge() != null) {
+            int age = clampAge(employee.getAge());
+            if (byAge[age] == null) {
+                byAge[age] = new RoaringBitmap();
+            }
+            byAge[age].add(slot);
+        }
+        if (employee.getSalary() != null) {
+            bySalaryBucket.computeIfAbsent(salaryBucket(employee.getSalary()), key -> new RoaringBitmap()).add(slot);
+        }
+    }
+
+    private void remove(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        String id = employee.getId().toString();
+        Integer slot = slotsById.get(id);
+        // A late eviction of an entry that was already replaced must not remove its replacement.
+        if (slot == null || slots.get(slot) != employee) {
+            return;
+        }
+        slotsById.remove(id);
+        live.remove(slot);
+        if (employee.getTitle() != null) {
+            removeFrom(byTitle, titleKey(employee.getTitle()), slot);
+        }
+        if (employee.getAge() != null) {
+            byAge[clampAge(employee.getAge())].remove(slot);
+        }
+        if (employee.getSalary() != null) {
+            removeFrom(bySalaryBucket, salaryBucket(employee.getSalary()), slot);
+        }
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private RoaringBitmap ageRange(Integer minAge, Integer maxAge) {
+        int from = minAge == null ? 0 : clampAge(minAge);
+        int to = maxAge == null ? MAX_AGE : clampAge(maxAge);
+        RoaringBitmap ages = new RoaringBitmap();
+        for (int age = from; age <= to; age++) {
+            if (byAge[age] != null) {
+                ages.or(byAge[age]);
+            }
+        }
+        return ages;
+    }
+
+    /**
+     * Union of every bucket overlapping the range; edge buckets may hold out-of-range salaries, which the residual
+     * predicate removes.
+     */
+    private RoaringBitmap salaryRange(Integer minSalary, Integer maxSalary) {
+        int from = minSalary == null ? Integer.MIN_VALUE : salaryBucket(minSalary);
+        int to = maxSalary == null ? Integer.MAX_VALUE : salaryBucket(maxSalary);
+        if (from > to) {
+            return new RoaringBitmap();
+        }
+        return RoaringBitmap.or(bySalaryBucket.subMap(from, true, to, true).values().iterator());
+    }
+
+    private static Predicate<Employee> residual(EmployeeQuery query) {
+        Predicate<Employee> predicate = employee -> true;
+        if (query.getMinSalary() != null) {
+            predicate = predicate.and(employee -> employee.getSalary() >= query.getMinSalary());
+        }
+        if (query.getMaxSalary() != null) {
+            predicate = predicate.and(employee -> employee.getSalary() <= query.getMaxSalary());
+        }
+        if (query.getName() != null) {
+            String name = query.getName().toLowerCase(Locale.ROOT);
+            predicate = predicate.and(employee -> employee.getName() != null
+                    && employee.getName().toLowerCase(Locale.ROOT).contains(name));
+        }
+        return predicate;
+    }
+
+    private static List<Employee> scan(Employee[] candidates, Predicate<Employee> predicate) {
+        if (candidates.length < PARALLEL_SCAN_THRESHOLD) {
+            return Arrays.stream(candidates).filter(predicate).collect(Collectors.toList());
+        }
+        return Arrays.stream(candidates).parallel().filter(predicate).collect(Collectors.toList());
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> index, K key, int slot) {
+        RoaringBitmap bitmap = index.get(key);
+        if (bitmap != null) {
+            bitmap.remove(slot);
+            if (bitmap.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private int salaryBucket(int salary) {
+        return Math.floorDiv(salary, salaryBucketWidth);
+    }
+
+    private static boolean inRange(int value, Integer min, Integer max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static int clampAge(int age) {
+        return Math.max(0, Math.min(age, MAX_AGE));
+    }
+
+    private static String titleKey(String title) {
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+}
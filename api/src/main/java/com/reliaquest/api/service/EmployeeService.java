@@ -11,15 +11,26 @@ import com.reliaquest.api.exception.FailureException;
 import com.reliaquest.api.exception.InvalidDataException;
 import com.reliaquest.api.exception.RemoteAccessException;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.EmployeeCacheResyncEvent;
+import com.reliaquest.api.remote.EmployeeChangeStream;
+import com.reliaquest.api.remote.RemoteCallClass;
+import com.reliaquest.api.remote.RemoteCallScheduler;
 import com.reliaquest.api.remote.RemoteClient;
+import com.reliaquest.api.replication.ReplicatedEmployeeEvent;
+import com.reliaquest.api.replication.ReplicatedRosterEvent;
+import com.reliaquest.api.replication.ReplicationLeaderEvent;
+import com.reliaquest.api.replication.ReplicationNode;
+import com.reliaquest.api.util.EmployeeProjection;
 import com.reliaquest.api.util.ValidationUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 
 import java.util.*;
@@ -29,73 +40,128 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EmployeeService {
 
+    static final String CACHE_RELOAD_WORK = "employee-cache-reload";
+
     private final RemoteClient remoteClient;
     private final Cache<String, Employee> employeeCache;
+    private final EmployeeChangeStream employeeChangeStream;
+    private final WriteBehindQueue writeBehindQueue;
+    private final RosterStatistics rosterStatistics;
+    private final RemoteCallScheduler remoteCallScheduler;
+    private final UnknownEmployeeFilter unknownEmployeeFilter;
+    private final EmployeeLookupCollapser employeeLookupCollapser;
+    private final ReplicationNode replicationNode;
 
     @Autowired
     public EmployeeService(RemoteClient remoteClient,
-                           Cache<String, Employee> employeeCache) {
+                           Cache<String, Employee> employeeCache,
+                           EmployeeChangeStream employeeChangeStream,
+                           WriteBehindQueue writeBehindQueue,
+                           RosterStatistics rosterStatistics,
+                           RemoteCallScheduler remoteCallScheduler,
+                           UnknownEmployeeFilter unknownEmployeeFilter,
+                           EmployeeLookupCollapser employeeLookupCollapser,
+                           ReplicationNode replicationNode) {
         this.remoteClient = remoteClient;
         this.employeeCache = employeeCache;
+        this.employeeChangeStream = employeeChangeStream;
+        this.writeBehindQueue = writeBehindQueue;
+        this.rosterStatistics = rosterStatistics;
+        this.remoteCallScheduler = remoteCallScheduler;
+        this.unknownEmployeeFilter = unknownEmployeeFilter;
+        this.employeeLookupCollapser = employeeLookupCollapser;
+        this.replicationNode = replicationNode;
     }
 
     public List<Employee> getAllEmployees() {
-        List<Employee> employees = new ArrayList<>();
+        return getAllEmployees(null);
+    }
+
+    /**
+     * @param fields projection to request from the remote and apply to the result, or null for whole employees
+     */
+    public List<Employee> getAllEmployees(Set<String> fields) {
         try {
-            ResponseEntity<Response<List<Employee>>> response = remoteClient.getList("", null,
-                    new ParameterizedTypeReference<Response<List<Employee>>>() {
-                    });
-            if(response.getBody() == null){
+            Response<List<Employee>> response = fetchAllEmployees(fields);
+            if(response == null){
                 return Collections.emptyList();
             }
-            employees = Objects.requireNonNull(response.getBody()).getData();
+            if (response.getError() != null) {
+                log.warn("Incomplete employee list from external service: {}", response.getError());
+            }
+            List<Employee> employees = response.getData();
             log.debug("Fetched {} employees from external service", employees != null ? employees.size() : 0);
-            return employees != null ? employees : Collections.emptyList();
+            return employees != null ? EmployeeProjection.apply(employees, fields) : Collections.emptyList();
         } catch (RestClientException e) {
             log.error("Failed to fetch employees from external service {}, returning from cache", e.getMessage());
-            employees.addAll(employeeCache.asMap().values());
-            return employees;
+            return getCachedEmployees(fields);
         }
     }
 
+    /**
+     * The cache fallback of {@link #getAllEmployees(Set)}, for callers whose remote call has already failed.
+     */
+    public List<Employee> getCachedEmployees(Set<String> fields) {
+        return EmployeeProjection.apply(new ArrayList<>(employeeCache.asMap().values()), fields);
+    }
+
     public List<Employee> getEmployeeByName(String searchString) {
+        List<Employee> employees = searchEmployeesByName(searchString);
+        if (employees.isEmpty()) {
+            throw new EmployeeNotFound("No employee found with name " + searchString);
+        }
+        return employees;
+    }
+
+    /**
+     * @return the matching employees, empty rather than an exception if there are none
+     */
+    public List<Employee> searchEmployeesByName(String searchString) {
         if (!ValidationUtil.validateString(searchString)) {
             throw new InvalidDataException("Invalid search name provided");
         }
         List<Employee> allEmployees = getAllEmployees();
-        List<Employee> employees = allEmployees.stream().filter(employee ->
+        return allEmployees.stream().filter(employee ->
                 employee.getName().toLowerCase().contains(searchString.toLowerCase()))
                 .collect(Collectors.toList());
-        if (employees.isEmpty()) {
-            throw new EmployeeNotFound("No employee found with name " + searchString);
-        }
-        return employees;
     }
 
     public Employee getEmployeeById(String id) {
+        return findEmployeeById(id).orElseThrow(() -> new EmployeeNotFound("No employee found with id " + id));
+    }
+
+    /**
+     * @return the employee, empty rather than an exception if it does not exist
+     */
+    public Optional<Employee> findEmployeeById(String id) {
         if (!ValidationUtil.isValidUUID(id)) {
             throw new InvalidDataException("Invalid Emp id provided");
         }
+        if (unknownEmployeeFilter.isKnownMissing(id)) {
+            return Optional.empty();
+        }
         Employee employee = null;
         try {
-            ResponseEntity<Response<Employee>> response = remoteClient.get(id, null,
-                    new ParameterizedTypeReference<Response<Employee>>() {
-                    });
-            if(response.getBody()!=null){
-                employee = response.getBody().getData();
-                log.debug("Fetched {} employee from external service", employee);
+            employee = employeeLookupCollapser.lookup(id);
+            log.debug("Fetched {} employee from external service", employee);
+            if (employee == null) {
+                unknownEmployeeFilter.recordMissing(id);
             }
+        } catch (HttpClientErrorException.NotFound e) {
+            log.debug("External service has no employee with id {}", id);
+            unknownEmployeeFilter.recordMissing(id);
         } catch (RestClientException e) {
             log.error("Failed to fetch employees from external service {}, returning from cache", e.getMessage());
             employee = employeeCache.getIfPresent(id);
         }
-        if (employee == null) {
-            throw new EmployeeNotFound("No employee found with id " + id);
-        }
-        return employee;
+        return Optional.ofNullable(employee);
     }
 
     public Integer getTopSalary() {
+        Integer cachedTopSalary = rosterStatistics.getTopSalary();
+        if (cachedTopSalary != null && rosterStatistics.isComplete()) {
+            return cachedTopSalary;
+        }
         List<Employee> allEmployees = getAllEmployees();
         Optional<Employee> topEarner = allEmployees.stream()
                 .max(Comparator.comparingDouble(Employee::getSalary));
@@ -127,6 +193,7 @@ public class EmployeeService {
             }
             log.info("Employee added successfully: {}", employee);
             employeeCache.put(employee.getData().getId().toString(), employee.getData());
+            replicationNode.publishPut(employee.getData());
             return employee.getData().getId();
         } catch (RestClientException e) {
             log.error("Exception occurred while calling remote client,{}", e.getMessage());
@@ -134,13 +201,53 @@ public class EmployeeService {
         }
     }
 
+    public boolean isWriteBehindEnabled() {
+        return writeBehindQueue.isEnabled();
+    }
+
+    public UUID enqueueEmployee(AddEmployeeRequest employeeInput) {
+        if (!validateEmployeeInformation(employeeInput)) {
+            throw new InvalidDataException("Invalid Field");
+        }
+        return writeBehindQueue.submit(employeeInput);
+    }
+
     public String removeEmployee(String id) {
+        if (!ValidationUtil.isValidUUID(id)) {
+            throw new InvalidDataException("Invalid Emp id provided");
+        }
+        Response<Employee> deleted;
+        try {
+            deleted = remoteClient.delete(id, null, new ParameterizedTypeReference<Response<Employee>>() {
+            }).getBody();
+        } catch (HttpClientErrorException.NotFound e) {
+            unknownEmployeeFilter.recordMissing(id);
+            throw new EmployeeNotFound("No employee found with id " + id);
+        } catch (HttpClientErrorException.MethodNotAllowed e) {
+            log.debug("External service has no delete by id, deleting employee {} by name", id);
+            return removeEmployeeByName(id);
+        }
+        if (deleted != null && deleted.getData() != null) {
+            employeeCache.invalidate(id);
+            replicationNode.publishRemove(id);
+            log.info("Employee with ID {} , and name {} deleted successfully", id, deleted.getData().getName());
+            return deleted.getData().getName();
+        }
+        log.info("failed to delete employee with ID {}", id);
+        return null;
+    }
+
+    /**
+     * Delete path for remotes without {@code DELETE /{id}}: resolves the name first, then deletes by name.
+     */
+    private String removeEmployeeByName(String id) {
         String employeeName = getEmployeeById(id).getName();
         DeleteMockEmployeeInput deleteRequest = new DeleteMockEmployeeInput(employeeName);
         Response<Boolean> success = remoteClient.delete("", deleteRequest, new ParameterizedTypeReference<Response<Boolean>>() {
         }).getBody();
         if(success !=null && Boolean.TRUE.equals(success.getData())){
             employeeCache.invalidate(id);
+            replicationNode.publishRemove(id);
             log.info("Employee with ID {} , and name {} deleted successfully",id, employeeName);
             return employeeName;
         }else {
@@ -151,19 +258,116 @@ public class EmployeeService {
 
     @Scheduled(fixedRateString = "${employee.cache.refresh-rate-ms:300000}")
     public void refreshCache() {
+        if (employeeChangeStream.isConnected()) {
+            log.debug("Change stream connected, skipping cache poll");
+            return;
+        }
+        scheduleReload();
+    }
+
+    /**
+     * Full reload while the change stream is connected. Events only cover creates and deletes, so this is what
+     * rewrites entries before {@code expireAfterAccess} drops them and rebuilds the unknown-id filter before it
+     * ages out; the interval must stay below both.
+     */
+    @Scheduled(fixedRateString = "${employee.cache.connected-refresh-rate-ms:480000}",
+            initialDelayString = "${employee.cache.connected-refresh-rate-ms:480000}")
+    public void refreshCacheWhileConnected() {
+        if (employeeChangeStream.isConnected()) {
+            scheduleReload();
+        }
+    }
+
+    private void scheduleReload() {
+        if (!replicationNode.isLeader()) {
+            log.debug("Not the replication leader, waiting for the roster from the leader");
+            return;
+        }
+        remoteCallScheduler.submitBackground(CACHE_RELOAD_WORK, this::reloadCache);
+    }
+
+    @EventListener
+    public void onCacheResync(EmployeeCacheResyncEvent event) {
+        log.info("Reloading employee cache on change stream resync");
+        remoteCallScheduler.submitBackground(CACHE_RELOAD_WORK, this::reloadCache);
+    }
+
+    @EventListener
+    public void onReplicationLeader(ReplicationLeaderEvent event) {
+        log.info("Became replication leader, reloading employee cache");
+        remoteCallScheduler.submitBackground(CACHE_RELOAD_WORK, this::reloadCache);
+    }
+
+    @EventListener
+    public void onReplicatedRoster(ReplicatedRosterEvent event) {
+        List<Employee> employees = event.getEmployees();
+        if (!employees.isEmpty()) {
+            unknownEmployeeFilter.rebuild(employees.stream().map(emp -> emp.getId().toString()).toList());
+        }
+        applyCompleteRoster(employees);
+        log.info("Cache refreshed with {} employees from the replication leader", employees.size());
+    }
+
+    @EventListener
+    public void onReplicatedEmployee(ReplicatedEmployeeEvent event) {
+        if (event.getEmployee() != null) {
+            employeeCache.put(event.getEmployee().getId().toString(), event.getEmployee());
+        } else {
+            employeeCache.invalidate(event.getRemovedId());
+        }
+    }
+
+    /**
+     * Reloads the cache from the full roster. The known-id filter is only rebuilt from a complete roster; a failed or
+     * partial (sharded) fetch just refreshes what it returned, or the cached entries themselves.
+     */
+    private void reloadCache() {
+        List<Employee> employees;
+        boolean complete;
         try {
-            List<Employee> employees = getAllEmployees();
-            if (employees != null) {
-                employees.forEach(emp -> employeeCache.put(emp.getId().toString(), emp));
-                log.info("Cache refreshed with {} employees", employees.size());
+            Response<List<Employee>> roster = RemoteCallClass.inBackground(() -> fetchAllEmployees(null));
+            employees = roster != null && roster.getData() != null ? roster.getData() : Collections.emptyList();
+            complete = roster != null && roster.getError() == null;
+        } catch (RestClientException e) {
+            log.error("Failed to fetch employees from external service {}, keeping cached roster", e.getMessage());
+            employees = new ArrayList<>(employeeCache.asMap().values());
+            complete = false;
+        }
+        try {
+            if (complete && !employees.isEmpty()) {
+                unknownEmployeeFilter.rebuild(employees.stream().map(emp -> emp.getId().toString()).toList());
+                replicationNode.publishSnapshot(employees);
+            }
+            if (complete) {
+                applyCompleteRoster(employees);
             } else {
-                log.warn("Failed to refresh employee cache, No employees fetched");
+                employees.forEach(emp -> employeeCache.put(emp.getId().toString(), emp));
             }
+            log.info("Cache refreshed with {} employees", employees.size());
         } catch (Exception e) {
             log.warn("Failed to refresh employee cache", e);
         }
     }
 
+    /**
+     * Makes the cache mirror a complete roster, dropping employees deleted since, so the statistics can stand in for
+     * a full remote scan when the whole roster fits.
+     */
+    private void applyCompleteRoster(List<Employee> employees) {
+        Set<String> ids = employees.stream().map(emp -> emp.getId().toString()).collect(Collectors.toSet());
+        new ArrayList<>(employeeCache.asMap().keySet()).stream()
+                .filter(id -> !ids.contains(id))
+                .forEach(employeeCache::invalidate);
+        employees.forEach(emp -> employeeCache.put(emp.getId().toString(), emp));
+        rosterStatistics.markComplete(employees.size());
+    }
+
+    private Response<List<Employee>> fetchAllEmployees(Set<String> fields) {
+        return remoteClient.getList("", EmployeeProjection.toQueryParams(fields),
+                new ParameterizedTypeReference<Response<List<Employee>>>() {
+                }).getBody();
+    }
+
     private boolean validateEmployeeInformation(AddEmployeeRequest employeeInput) {
         return ValidationUtil.validateString(employeeInput.getName());
     }
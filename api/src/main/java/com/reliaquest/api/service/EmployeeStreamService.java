@@ -0,0 +1,161 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.RemoteClient;
+import com.reliaquest.api.util.EmployeeProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+
+/**
+ * Writes the employee list as NDJSON, one employee per line, while it is being read. The remote body is parsed
+ * token by token and each employee is copied out as soon as it is complete. Nothing is collected per request, and a
+ * slow client stalls the remote read through TCP flow control instead of filling the heap. If the remote fails
+ * before the first line, or is sharded, the cached employees are streamed instead; a failure after it aborts the
+ * response.
+ */
+@Slf4j
+@Service
+public class EmployeeStreamService {
+
+    private static final String DATA_FIELD = "data";
+    private static final int FLUSH_EVERY = 256;
+
+    private final RemoteClient remoteClient;
+    private final Cache<String, Employee> employeeCache;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter employeeWriter;
+
+    @Autowired
+    public EmployeeStreamService(RemoteClient remoteClient,
+                                 Cache<String, Employee> employeeCache,
+                                 ObjectMapper objectMapper) {
+        this.remoteClient = remoteClient;
+        this.employeeCache = employeeCache;
+        this.objectMapper = objectMapper;
+        this.employeeWriter = objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * @param fields projection to apply, or null for whole employees
+     * @throws RestClientException if the remote fails after the first line was written, so the response ends
+     * abnormally instead of looking like a complete roster
+     */
+    public void streamAllEmployees(Set<String> fields, OutputStream out) throws IOException {
+        if (!remoteClient.isSharded()) {
+            JsonGenerator generator = createGenerator(out);
+            Lines lines = new Lines(generator);
+            Set<String> jsonNames = fields == null ? null : EmployeeProjection.jsonNames(fields);
+            try {
+                Boolean streamed = remoteClient.stream("", EmployeeProjection.toQueryParams(fields),
+                        remote -> copyData(remote.getBody(), lines, jsonNames));
+                if (Boolean.TRUE.equals(streamed)) {
+                    generator.close();
+                    log.debug("Streamed {} employees from external service", lines.count);
+                    return;
+                }
+            } catch (RestClientException e) {
+                if (lines.count > 0) {
+                    // The generator is left unclosed, so a partly copied employee is never flushed.
+                    log.error("Employee stream failed after {} employees {}", lines.count, e.getMessage());
+                    throw e;
+                }
+                log.warn("Failed to stream employees from external service {}, streaming from cache",
+                        e.getMessage());
+            }
+            // Nothing was flushed before the first line, so the abandoned generator's buffer is simply dropped.
+        }
+        try (JsonGenerator generator = createGenerator(out)) {
+            Lines lines = new Lines(generator);
+            for (Employee employee : employeeCache.asMap().values()) {
+                employeeWriter.writeValue(generator, fields == null ? employee : EmployeeProjection.apply(employee, fields));
+                lines.end();
+            }
+            log.debug("Streamed {} employees from cache", lines.count);
+        }
+    }
+
+    /**
+     * Open objects are not closed automatically, so a failed copy can never be completed into a valid-looking line.
+     */
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private Boolean copyData(InputStream body, Lines lines, Set<String> jsonNames) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (DATA_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        copyEmployee(parser, lines.generator, jsonNames);
+                        lines.end();
+                    }
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+    }
+
+    private static void copyEmployee(JsonParser parser, JsonGenerator generator, Set<String> jsonNames)
+            throws IOException {
+        if (jsonNames == null) {
+            generator.copyCurrentStructure(parser);
+            return;
+        }
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (jsonNames.contains(field)) {
+                generator.writeFieldName(field);
+                generator.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Terminates each employee with a newline. The first line is flushed right away for a fast first byte, and
+     * later ones in batches.
+     */
+    private static final class Lines {
+        private final JsonGenerator generator;
+        private long count;
+
+        private Lines(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        private void end() throws IOException {
+            generator.writeRaw('\n');
+            if (++count == 1 || count % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+    }
+}
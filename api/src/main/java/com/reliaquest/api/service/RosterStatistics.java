@@ -0,0 +1,181 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCacheListener;
+import com.reliaquest.api.dto.RosterStats;
+import com.reliaquest.api.model.Employee;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running aggregates over the cached roster, updated on every cache change.
+ * <p>
+ * Salaries are counted exactly for min/max and in an HDR-style log-linear histogram (32 linear sub-buckets per power
+ * of two, so any bucket is within ~3% of the values it holds) for bands and approximate percentiles.
+ * The top salary is kept in a field, so reading it is O(1).
+ * <p>
+ * The cache is bounded and expiring, so the aggregates only describe the whole roster while {@link #isComplete()}:
+ * after a complete roster was loaded into it and until the cache evicts anything.
+ */
+@Component
+public class RosterStatistics implements EmployeeCacheListener {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = SUB_BUCKETS + (31 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    static final double[] PERCENTILES = {50, 75, 90, 95, 99};
+
+    private final long[] salaryHistogram = new long[BUCKETS];
+    private final TreeMap<Integer, Integer> salaryCounts = new TreeMap<>();
+    private final TreeMap<Integer, Long> ageCounts = new TreeMap<>();
+    private final Map<String, Long> titleCounts = new HashMap<>();
+
+    private long count;
+    private long salaryCount;
+    private long salarySum;
+    private volatile Integer topSalary;
+    private volatile boolean complete;
+
+    @Override
+    public synchronized void onPut(Employee previous, Employee current) {
+        if (previous != null) {
+            remove(previous);
+        }
+        add(current);
+    }
+
+    @Override
+    public synchronized void onRemove(Employee removed) {
+        remove(removed);
+    }
+
+    @Override
+    public synchronized void onEvict(Employee evicted) {
+        remove(evicted);
+        complete = false;
+    }
+
+    /**
+     * Called after a complete roster of {@code rosterSize} employees was put into the cache. The aggregates count as
+     * complete only if the cache kept all of them.
+     */
+    public synchronized void markComplete(int rosterSize) {
+        complete = count == rosterSize;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the highest cached salary, or null while no salaries are cached; see {@link #isComplete()}
+     */
+    public Integer getTopSalary() {
+        return topSalary;
+    }
+
+    public synchronized RosterStats snapshot() {
+        RosterStats stats = new RosterStats();
+        stats.setCount(count);
+        stats.setComplete(complete);
+        stats.setSalarySum(salarySum);
+        if (salaryCount > 0) {
+            stats.setMinSalary(salaryCounts.firstKey());
+            stats.setMaxSalary(salaryCounts.lastKey());
+            stats.setMeanSalary((double) salarySum / salaryCount);
+            stats.setSalaryPercentiles(percentiles());
+        }
+        stats.setSalaryHistogram(histogram());
+        stats.setAgeDistribution(new LinkedHashMap<>(ageCounts));
+        stats.setTitleCounts(new TreeMap<>(titleCounts));
+        return stats;
+    }
+
+    private void add(Employee employee) {
+        count++;
+        Integer salary = employee.getSalary();
+        if (salary != null) {
+            salaryCount++;
+            salarySum += salary;
+            salaryHistogram[bucketIndex(salary)]++;
+            salaryCounts.merge(salary, 1, Integer::sum);
+            if (topSalary == null || salary > topSalary) {
+                topSalary = salary;
+            }
+        }
+        if (employee.getAge() != null) {
+            ageCounts.merge(employee.getAge(), 1L, Long::sum);
+        }
+        if (employee.getTitle() != null) {
+            titleCounts.merge(employee.getTitle(), 1L, Long::sum);
+        }
+    }
+
+    private void remove(Employee employee) {
+        count--;
+        Integer salary = employee.getSalary();
+        if (salary != null) {
+            salaryCount--;
+            salarySum -= salary;
+            salaryHistogram[bucketIndex(salary)]--;
+            salaryCounts.computeIfPresent(salary, (key, n) -> n > 1 ? n - 1 : null);
+            topSalary = salaryCounts.isEmpty() ? null : salaryCounts.lastKey();
+        }
+        if (employee.getAge() != null) {
+            ageCounts.computeIfPresent(employee.getAge(), (key, n) -> n > 1 ? n - 1 : null);
+        }
+        if (employee.getTitle() != null) {
+            titleCounts.computeIfPresent(employee.getTitle(), (key, n) -> n > 1 ? n - 1 : null);
+        }
+    }
+
+    private Map<String, Long> percentiles() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        int next = 0;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && next < PERCENTILES.length; i++) {
+            seen += salaryHistogram[i];
+            while (next < PERCENTILES.length && seen >= Math.ceil(PERCENTILES[next] / 100 * salaryCount) && seen > 0) {
+                result.put("p" + (int) PERCENTILES[next], (lowerBound(i) + upperBound(i)) / 2);
+                next++;
+            }
+        }
+        return result;
+    }
+
+    private List<RosterStats.SalaryBand> histogram() {
+        List<RosterStats.SalaryBand> bands = new ArrayList<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            if (salaryHistogram[i] > 0) {
+                bands.add(new RosterStats.SalaryBand(lowerBound(i), upperBound(i), salaryHistogram[i]));
+            }
+        }
+        return bands;
+    }
+
+    static int bucketIndex(int value) {
+        if (value < SUB_BUCKETS) {
+            return Math.max(value, 0);
+        }
+        int shift = (31 - Integer.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << shift;
+    }
+
+    static long upperBound(int index) {
+        return lowerBound(index + 1) - 1;
+    }
+}
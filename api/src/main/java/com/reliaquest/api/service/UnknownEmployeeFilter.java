@@ -0,0 +1,141 @@
+package com.reliaquest.api.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import com.reliaquest.api.cache.EmployeeCacheListener;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recognises employee ids that cannot exist so lookups for them skip the remote.
+ * <p>
+ * A Bloom filter holds every id of the last full roster plus ids cached since; an id it has never seen is definitely
+ * unknown. The filter is rebuilt from each roster refresh, which also drops deleted ids, and is ignored once it is
+ * older than {@code max-age-ms} so employees created elsewhere are not hidden for long. Ids the remote answered 404
+ * for are kept in a short-lived negative cache, which covers ids the filter reports as false positives.
+ */
+@Slf4j
+@Component
+public class UnknownEmployeeFilter implements EmployeeCacheListener {
+
+    private final double falsePositiveRate;
+    private final int minCapacity;
+    private final long maxAgeMs;
+    private final Cache<String, Boolean> missingIds;
+    private final Counter bloomShortCircuits;
+    private final Counter negativeCacheShortCircuits;
+
+    private volatile BloomFilter<String> knownIds;
+    private volatile long builtAt;
+    private volatile long filterBytes;
+
+    @Autowired
+    public UnknownEmployeeFilter(MeterRegistry meterRegistry,
+                                 @Value("${employee.unknown-ids.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${employee.unknown-ids.min-capacity:1024}") int minCapacity,
+                                 @Value("${employee.unknown-ids.max-age-ms:600000}") long maxAgeMs,
+                                 @Value("${employee.unknown-ids.negative-ttl-ms:30000}") long negativeTtlMs,
+                                 @Value("${employee.unknown-ids.negative-max-size:10000}") long negativeMaxSize) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+        this.maxAgeMs = maxAgeMs;
+        this.missingIds = CacheBuilder.newBuilder()
+                .expireAfterWrite(negativeTtlMs, TimeUnit.MILLISECONDS)
+                .maximumSize(negativeMaxSize)
+                .build();
+        this.bloomShortCircuits = Counter.builder("employee.unknown-ids.short-circuits")
+                .tag("source", "bloom")
+                .register(meterRegistry);
+        this.negativeCacheShortCircuits = Counter.builder("employee.unknown-ids.short-circuits")
+                .tag("source", "negative-cache")
+                .register(meterRegistry);
+        Gauge.builder("employee.unknown-ids.bloom.fpp", this, UnknownEmployeeFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("employee.unknown-ids.bloom.bytes", this, filter -> filter.filterBytes)
+                .register(meterRegistry);
+        Gauge.builder("employee.unknown-ids.negative.size", missingIds, Cache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true if the id is certainly not an employee the remote knows about
+     */
+    public boolean isKnownMissing(String id) {
+        if (missingIds.getIfPresent(id) != null) {
+            negativeCacheShortCircuits.increment();
+            return true;
+        }
+        BloomFilter<String> filter = knownIds;
+        if (filter != null && System.currentTimeMillis() - builtAt <= maxAgeMs && !filter.mightContain(id)) {
+            bloomShortCircuits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void recordMissing(String id) {
+        missingIds.put(id, Boolean.TRUE);
+    }
+
+    /**
+     * Replaces the filter with one holding exactly the given roster, sized for twice its length so later additions
+     * stay near the target false-positive rate.
+     */
+    public void rebuild(Collection<String> ids) {
+        BloomFilter<String> filter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(minCapacity, ids.size() * 2), falsePositiveRate);
+        ids.forEach(filter::put);
+        knownIds = filter;
+        builtAt = System.currentTimeMillis();
+        filterBytes = serializedSize(filter);
+        log.debug("Rebuilt known employee id filter with {} ids, {} bytes", ids.size(), filterBytes);
+    }
+
+    public double expectedFalsePositiveRate() {
+        BloomFilter<String> filter = knownIds;
+        return filter != null ? filter.expectedFpp() : 0;
+    }
+
+    @Override
+    public void onPut(Employee previous, Employee current) {
+        if (current.getId() == null) {
+            return;
+        }
+        String id = current.getId().toString();
+        missingIds.invalidate(id);
+        BloomFilter<String> filter = knownIds;
+        if (filter != null) {
+            filter.put(id);
+        }
+    }
+
+    @Override
+    public void onRemove(Employee removed) {
+        // Bloom filters cannot forget; removed ids drop out at the next rebuild.
+    }
+
+    private static long serializedSize(BloomFilter<String> filter) {
+        try (CountingOutputStream out = new CountingOutputStream(ByteStreams.nullOutputStream())) {
+            filter.writeTo(out);
+            return out.getCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
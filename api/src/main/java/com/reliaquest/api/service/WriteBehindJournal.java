@@ -0,0 +1,177 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.PendingWrite;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only journal of write-behind records, one JSON document per line.
+ * <p>
+ * Appends go straight to the {@link FileChannel}; {@link #sync()} group-commits them, so concurrent writers that
+ * queue up behind an in-flight {@code force} are covered by it instead of issuing one fsync each.
+ * A torn trailing line left by a crash is dropped on {@link #replay()}.
+ */
+@Slf4j
+public class WriteBehindJournal implements Closeable {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+    private volatile long durablePosition;
+
+    public WriteBehindJournal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Reads every complete record in the journal and positions the channel for appends after the last one.
+     */
+    public List<Entry> replay() throws IOException {
+        synchronized (writeLock) {
+            byte[] content = Files.readAllBytes(path);
+            List<Entry> entries = new ArrayList<>();
+            int start = 0;
+            int validLength = 0;
+            for (int i = 0; i < content.length; i++) {
+                if (content[i] != '\n') {
+                    continue;
+                }
+                if (i > start) {
+                    try {
+                        entries.add(objectMapper.readValue(content, start, i - start, Entry.class));
+                    } catch (IOException e) {
+                        log.warn("Stopping journal replay at corrupt record at offset {}: {}", start, e.getMessage());
+                        break;
+                    }
+                }
+                start = i + 1;
+                validLength = start;
+            }
+            if (validLength < content.length) {
+                log.warn("Truncating {} trailing bytes of incomplete journal record", content.length - validLength);
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+            durablePosition = validLength;
+            return entries;
+        }
+    }
+
+    public void append(Entry entry) throws IOException {
+        ByteBuffer buffer = encode(entry);
+        synchronized (writeLock) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Forces everything appended so far to disk. Callers arriving while another thread's force is in flight wait
+     * for it and return immediately if it already covered their appends.
+     */
+    public void sync() throws IOException {
+        long requested;
+        synchronized (writeLock) {
+            requested = channel.position();
+        }
+        synchronized (syncLock) {
+            if (durablePosition >= requested) {
+                return;
+            }
+            long target;
+            synchronized (writeLock) {
+                target = channel.position();
+            }
+            channel.force(false);
+            durablePosition = target;
+        }
+    }
+
+    /**
+     * Atomically replaces the journal with just the given live records, dropping completed history.
+     */
+    public void compact(Collection<Entry> live) throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+                try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    for (Entry entry : live) {
+                        ByteBuffer buffer = encode(entry);
+                        while (buffer.hasRemaining()) {
+                            out.write(buffer);
+                        }
+                    }
+                    out.force(true);
+                }
+                channel.close();
+                Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                channel.position(channel.size());
+                durablePosition = channel.size();
+            }
+        }
+    }
+
+    public long size() throws IOException {
+        synchronized (writeLock) {
+            return channel.size();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                channel.force(false);
+                channel.close();
+            }
+        }
+    }
+
+    private ByteBuffer encode(Entry entry) throws IOException {
+        String line = objectMapper.writeValueAsString(entry) + "\n";
+        return ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Entry {
+
+        private Op op;
+        private PendingWrite write;
+
+        public enum Op {
+            ENQUEUED,
+            SUBMITTED,
+            CREATED,
+            FAILED
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.reliaquest.api.dto.AddEmployeeRequest;
+import com.reliaquest.api.dto.PendingWrite;
+import com.reliaquest.api.dto.Response;
+import com.reliaquest.api.exception.FailureException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.RemoteClient;
+import com.reliaquest.api.replication.ReplicationNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional write-behind mode for employee creation. Accepted creates are journaled durably and acknowledged with a
+ * pending id; a background drainer then submits them to the remote in batches, backing off while it is rate limited.
+ * Pending writes survive a restart through journal replay.
+ * <p>
+ * Each batch is journaled as submitted before it is posted. A write replayed in that state may already exist remotely
+ * (the process died between the POST and journaling its outcome), so it is first looked up in the remote roster by
+ * all of its fields and only posted again if no match is found. An identical employee created by someone else in
+ * that window would be taken for ours.
+ */
+@Slf4j
+@Service
+public class WriteBehindQueue {
+
+    private final RemoteClient remoteClient;
+    private final Cache<String, Employee> employeeCache;
+    private final ReplicationNode replicationNode;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path journalPath;
+    private final int batchSize;
+    private final long backoffInitialMs;
+    private final long backoffMaxMs;
+
+    private final Map<UUID, PendingWrite> pending = new LinkedHashMap<>();
+    private final Set<UUID> unconfirmed = new HashSet<>();
+    private final Cache<UUID, PendingWrite> finished = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .build();
+
+    private WriteBehindJournal journal;
+    private long backoffMs;
+    private long backoffUntil;
+
+    @Autowired
+    public WriteBehindQueue(RemoteClient remoteClient,
+                            Cache<String, Employee> employeeCache,
+                            ReplicationNode replicationNode,
+                            ObjectMapper objectMapper,
+                            @Value("${employee.write-behind.enabled:false}") boolean enabled,
+                            @Value("${employee.write-behind.journal-path:data/write-behind.journal}") String journalPath,
+                            @Value("${employee.write-behind.batch-size:5}") int batchSize,
+                            @Value("${employee.write-behind.backoff-initial-ms:2000}") long backoffInitialMs,
+                            @Value("${employee.write-behind.backoff-max-ms:60000}") long backoffMaxMs) {
+        this.remoteClient = remoteClient;
+        this.employeeCache = employeeCache;
+        this.replicationNode = replicationNode;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.journalPath = Path.of(journalPath);
+        this.batchSize = batchSize;
+        this.backoffInitialMs = backoffInitialMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.backoffMs = backoffInitialMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        journal = new WriteBehindJournal(journalPath, objectMapper);
+        for (WriteBehindJournal.Entry entry : journal.replay()) {
+            UUID pendingId = entry.getWrite().getPendingId();
+            switch (entry.getOp()) {
+                case ENQUEUED -> pending.put(pendingId, entry.getWrite());
+                case SUBMITTED -> unconfirmed.add(pendingId);
+                default -> {
+                    pending.remove(pendingId);
+                    unconfirmed.remove(pendingId);
+                    finished.put(pendingId, entry.getWrite());
+                }
+            }
+        }
+        log.info("Write-behind journal {} opened, {} pending writes replayed, {} to reconcile",
+                journalPath, pending.size(), unconfirmed.size());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public UUID submit(AddEmployeeRequest request) {
+        if (!enabled) {
+            throw new FailureException("write-behind mode is disabled");
+        }
+        PendingWrite write = PendingWrite.accepted(UUID.randomUUID(), request);
+        try {
+            synchronized (pending) {
+                journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.ENQUEUED, write));
+                pending.put(write.getPendingId(), write);
+            }
+            journal.sync();
+        } catch (IOException e) {
+            log.error("Failed to journal pending employee write {}", e.getMessage());
+            throw new FailureException("failed to accept employee write");
+        }
+        log.info("Accepted pending employee write {}", write.getPendingId());
+        return write.getPendingId();
+    }
+
+    public Optional<PendingWrite> status(UUID pendingId) {
+        synchronized (pending) {
+            PendingWrite write = pending.get(pendingId);
+            if (write != null) {
+                return Optional.of(write);
+            }
+        }
+        return Optional.ofNullable(finished.getIfPresent(pendingId));
+    }
+
+    public List<PendingWrite> pendingWrites() {
+        synchronized (pending) {
+            return new ArrayList<>(pending.values());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employee.write-behind.drain-interval-ms:1000}")
+    public void drain() {
+        if (!enabled || System.currentTimeMillis() < backoffUntil) {
+            return;
+        }
+        List<PendingWrite> batch;
+        synchronized (pending) {
+            batch = pending.values().stream().limit(batchSize).toList();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (batch.stream().anyMatch(write -> unconfirmed.contains(write.getPendingId())) && !reconcile(batch)) {
+                return;
+            }
+            for (PendingWrite write : batch) {
+                journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.SUBMITTED, write));
+            }
+            journal.sync();
+            for (PendingWrite write : batch) {
+                if (write.getStatus() != PendingWrite.Status.PENDING) {
+                    continue;
+                }
+                if (!submitRemote(write)) {
+                    break;
+                }
+            }
+            journal.sync();
+            compactIfDrained();
+        } catch (IOException e) {
+            throw new UncheckedIOException("write-behind journal failure", e);
+        }
+    }
+
+    /**
+     * @return false when the remote is rate limiting or unreachable and the rest of the batch should wait
+     */
+    private boolean submitRemote(PendingWrite write) throws IOException {
+        write.setAttempts(write.getAttempts() + 1);
+        try {
+            Response<Employee> response = remoteClient.post("", write.toRequest(),
+                    new ParameterizedTypeReference<Response<Employee>>() {
+                    }).getBody();
+            if (response == null || response.getData() == null) {
+                complete(write, PendingWrite.Status.FAILED, null, "empty response from remote service");
+                return true;
+            }
+            Employee employee = response.getData();
+            cache(employee);
+            complete(write, PendingWrite.Status.CREATED, employee.getId(), null);
+            backoffMs = backoffInitialMs;
+            log.info("Pending employee write {} created employee {}", write.getPendingId(), employee.getId());
+            return true;
+        } catch (HttpClientErrorException e) {
+            if (e instanceof HttpClientErrorException.TooManyRequests) {
+                deferDrain(write, e);
+                return false;
+            }
+            complete(write, PendingWrite.Status.FAILED, null, e.getMessage());
+            log.warn("Pending employee write {} rejected by remote: {}", write.getPendingId(), e.getMessage());
+            return true;
+        } catch (RestClientException e) {
+            deferDrain(write, e);
+            return false;
+        }
+    }
+
+    /**
+     * Looks up the employees that interrupted submissions in the batch may already have created, with one roster
+     * fetch for the whole batch.
+     *
+     * @return false when the remote could not be asked and the batch should wait
+     */
+    private boolean reconcile(List<PendingWrite> batch) throws IOException {
+        List<PendingWrite> writes = batch.stream().filter(write -> unconfirmed.contains(write.getPendingId())).toList();
+        List<Employee> roster;
+        try {
+            Response<List<Employee>> response = remoteClient.getList("", null,
+                    new ParameterizedTypeReference<Response<List<Employee>>>() {
+                    }).getBody();
+            roster = response != null && response.getData() != null ? response.getData() : List.of();
+        } catch (RestClientException e) {
+            deferDrain(writes.get(0), e);
+            return false;
+        }
+        for (PendingWrite write : writes) {
+            unconfirmed.remove(write.getPendingId());
+            Optional<Employee> created = roster.stream().filter(employee -> matches(write, employee)).findFirst();
+            if (created.isPresent()) {
+                Employee employee = created.get();
+                cache(employee);
+                complete(write, PendingWrite.Status.CREATED, employee.getId(), null);
+                log.info("Pending employee write {} was already created as employee {}",
+                        write.getPendingId(), employee.getId());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Caches a drained create and replicates it to peer nodes, as a direct {@code addEmployee} does.
+     */
+    private void cache(Employee employee) {
+        employeeCache.put(employee.getId().toString(), employee);
+        replicationNode.publishPut(employee);
+    }
+
+    private static boolean matches(PendingWrite write, Employee employee) {
+        return Objects.equals(write.getName(), employee.getName())
+                && Objects.equals(write.getSalary(), employee.getSalary())
+                && Objects.equals(write.getAge(), employee.getAge())
+                && Objects.equals(write.getTitle(), employee.getTitle());
+    }
+
+    private void deferDrain(PendingWrite write, RestClientException e) {
+        write.setLastError(e.getMessage());
+        backoffUntil = System.currentTimeMillis() + backoffMs;
+        log.info("Remote unavailable for pending write {}, draining paused for {} ms: {}",
+                write.getPendingId(), backoffMs, e.getMessage());
+        backoffMs = Math.min(backoffMs * 2, backoffMaxMs);
+    }
+
+    private void complete(PendingWrite write, PendingWrite.Status status, UUID employeeId, String error) throws IOException {
+        write.setStatus(status);
+        write.setEmployeeId(employeeId);
+        write.setLastError(error);
+        WriteBehindJournal.Entry.Op op = status == PendingWrite.Status.CREATED
+                ? WriteBehindJournal.Entry.Op.CREATED
+                : WriteBehindJournal.Entry.Op.FAILED;
+        journal.append(new WriteBehindJournal.Entry(op, write));
+        synchronized (pending) {
+            pending.remove(write.getPendingId());
+        }
+        finished.put(write.getPendingId(), write);
+    }
+
+    private void compactIfDrained() throws IOException {
+        synchronized (pending) {
+            if (!pending.isEmpty() || journal.size() == 0) {
+                return;
+            }
+            journal.compact(List.of());
+        }
+        log.debug("Write-behind journal drained and compacted");
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.exception.InvalidDataException;
+import com.reliaquest.api.model.Employee;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code fields} projection of employee lists: a comma-separated subset of {@code id, name, salary, age, title,
+ * email}. Unrequested properties are left null, which {@link Employee} omits from JSON.
+ */
+public class EmployeeProjection {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    private static final Map<String, String> JSON_NAMES = Map.of(
+            "id", "id",
+            "name", "employee_name",
+            "salary", "employee_salary",
+            "age", "employee_age",
+            "title", "employee_title",
+            "email", "employee_email");
+
+    /**
+     * @return the requested fields, or null if no projection was requested (including a list of only commas)
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> parsed = Arrays.stream(fields.split(","))
+                .map(field -> field.trim().toLowerCase(Locale.ROOT))
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : parsed) {
+            if (!JSON_NAMES.containsKey(field)) {
+                throw new InvalidDataException("Unknown field in projection: " + field);
+            }
+        }
+        return parsed.isEmpty() ? null : parsed;
+    }
+
+    public static Map<String, String> toQueryParams(Set<String> fields) {
+        return fields == null ? null : Map.of(FIELDS_PARAM, String.join(",", fields));
+    }
+
+    public static Set<String> jsonNames(Set<String> fields) {
+        return fields.stream().map(JSON_NAMES::get).collect(Collectors.toSet());
+    }
+
+    public static List<Employee> apply(List<Employee> employees, Set<String> fields) {
+        if (fields == null) {
+            return employees;
+        }
+        return employees.stream().map(employee -> apply(employee, fields)).collect(Collectors.toList());
+    }
+
+    public static Employee apply(Employee employee, Set<String> fields) {
+        return new Employee(
+                fields.contains("id") ? employee.getId() : null,
+                fields.contains("name") ? employee.getName() : null,
+                fields.contains("salary") ? employee.getSalary() : null,
+                fields.contains("age") ? employee.getAge() : null,
+                fields.contains("title") ? employee.getTitle() : null,
+                fields.contains("email") ? employee.getEmail() : null);
+    }
+}
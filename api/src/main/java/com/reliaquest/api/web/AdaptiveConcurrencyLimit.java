@@ -0,0 +1,87 @@
+package com.reliaquest.api.web;
+
+/**
+ * AIMD concurrency limit driven by observed latency. The no-load latency is tracked as a slowly rising minimum. A
+ * completion slower than {@code tolerance} times that baseline, or a failed one, shrinks the limit multiplicatively;
+ * otherwise the limit grows by one per limit's worth of completions while it is actually being used.
+ * <p>
+ * Cheap (cache-served) and remote completions keep separate baselines: a sub-millisecond cache hit says nothing
+ * about how long a remote call should take, and a shared minimum would make every remote call look overloaded.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final Baseline cheapBaseline = new Baseline();
+    private final Baseline remoteBaseline = new Baseline();
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * @param share fraction of the limit this request may use, so lower-priority requests are shed first
+     */
+    public synchronized boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        if (inFlight >= allowed) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Frees a slot without a latency sample, for requests whose duration is set by the client rather than by load.
+     */
+    public synchronized void releaseUnmeasured() {
+        inFlight--;
+    }
+
+    /**
+     * @param cheap whether the request was served from local state; its latency is compared to the cheap baseline
+     */
+    public synchronized void release(boolean cheap, long latencyNanos, boolean failed) {
+        inFlight--;
+        double latencyMs = latencyNanos / 1_000_000.0;
+        double noLoadLatencyMs = (cheap ? cheapBaseline : remoteBaseline).update(latencyMs);
+        if (failed || latencyMs > noLoadLatencyMs * tolerance) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight + 1 >= limit / 2) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private static final class Baseline {
+
+        private double noLoadLatencyMs = -1;
+
+        double update(double latencyMs) {
+            if (noLoadLatencyMs < 0 || latencyMs < noLoadLatencyMs) {
+                noLoadLatencyMs = latencyMs;
+            } else {
+                noLoadLatencyMs += (latencyMs - noLoadLatencyMs) * BASELINE_DRIFT;
+            }
+            return noLoadLatencyMs;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Adaptive admission control for client requests. Requests beyond the current {@link AdaptiveConcurrencyLimit} are
+ * shed immediately with 503 and {@code Retry-After} instead of queueing in Tomcat. Requests that need the remote may
+ * only use {@code 1 - cheap-reserve} of the limit; the rest is kept for {@link CacheServable} handlers.
+ * <p>
+ * A request is admitted once, by whichever of {@link AdmissionControlInterceptor} or a filter answering it directly
+ * sees it first, and its slot is released by the first {@link #complete} call.
+ */
+@Slf4j
+@Component
+public class AdmissionControl {
+
+    private static final String ADMISSION = AdmissionControl.class.getName() + ".admission";
+
+    private final boolean enabled;
+    private final double remoteShare;
+    private final String retryAfterSeconds;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final Counter shedCheap;
+    private final Counter shedRemote;
+
+    @Autowired
+    public AdmissionControl(MeterRegistry meterRegistry,
+                            @Value("${admission.enabled:true}") boolean enabled,
+                            @Value("${admission.initial-limit:20}") int initialLimit,
+                            @Value("${admission.min-limit:4}") int minLimit,
+                            @Value("${admission.max-limit:200}") int maxLimit,
+                            @Value("${admission.latency-tolerance:2.0}") double tolerance,
+                            @Value("${admission.backoff-ratio:0.9}") double backoffRatio,
+                            @Value("${admission.cheap-reserve:0.2}") double cheapReserve,
+                            @Value("${admission.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.enabled = enabled;
+        this.remoteShare = 1 - cheapReserve;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, backoffRatio);
+        this.shedCheap = Counter.builder("admission.shed").tag("class", "cache").register(meterRegistry);
+        this.shedRemote = Counter.builder("admission.shed").tag("class", "remote").register(meterRegistry);
+        Gauge.builder("admission.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit).register(meterRegistry);
+        Gauge.builder("admission.in-flight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight).register(meterRegistry);
+    }
+
+    /**
+     * Takes a slot for the request, or sheds it with 503.
+     *
+     * @return false if the request was shed and must not be handled further
+     */
+    public boolean admit(HttpServletRequest request, HttpServletResponse response, boolean cheap) throws IOException {
+        if (!enabled || request.getAttribute(ADMISSION) != null) {
+            return true;
+        }
+        if (concurrencyLimit.tryAcquire(cheap ? 1.0 : remoteShare)) {
+            request.setAttribute(ADMISSION, new Admission(System.nanoTime(), cheap));
+            return true;
+        }
+        (cheap ? shedCheap : shedRemote).increment();
+        log.debug("Shedding {} at concurrency limit {}", request.getRequestURI(), concurrencyLimit.getLimit());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server overloaded, retry later");
+        return false;
+    }
+
+    /**
+     * Frees the request's slot, if it holds one. An async dispatch is released without a latency sample, since its
+     * duration is paced by the client.
+     */
+    public void complete(HttpServletRequest request, HttpServletResponse response, Exception ex) {
+        if (!(request.getAttribute(ADMISSION) instanceof Admission admission)) {
+            return;
+        }
+        request.removeAttribute(ADMISSION);
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            concurrencyLimit.releaseUnmeasured();
+        } else {
+            boolean failed = ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+            concurrencyLimit.release(admission.cheap(), System.nanoTime() - admission.startedAt(), failed);
+        }
+    }
+
+    int getInFlight() {
+        return concurrencyLimit.getInFlight();
+    }
+
+    private record Admission(long startedAt, boolean cheap) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Applies {@link AdmissionControl} in front of the client controllers, classifying handlers by
+ * {@link CacheServable}. A request already admitted by a filter, such as {@link EmployeeListPassThroughFilter}
+ * falling back to the controller, keeps its slot.
+ * <p>
+ * An async (streaming) request keeps its slot until the async dispatch completes, but its duration is paced by the
+ * client and is not fed to the limit as a latency sample.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private final AdmissionControl admissionControl;
+
+    @Autowired
+    public AdmissionControlInterceptor(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        return admissionControl.admit(request, response, handlerMethod.hasMethodAnnotation(CacheServable.class));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        admissionControl.complete(request, response, ex);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler that is answered from local state without remote I/O. Admission control keeps headroom for such
+ * cheap requests when it has to shed load.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheServable {
+}
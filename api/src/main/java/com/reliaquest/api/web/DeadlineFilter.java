@@ -0,0 +1,71 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.DeadlineProperties;
+import com.reliaquest.api.remote.Deadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Binds a {@link Deadline} to every client request: the caller's {@value #TIMEOUT_HEADER} if present (capped at
+ * {@code request.deadline.max-ms}), otherwise the budget of the first matching endpoint pattern or the default.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final DeadlineProperties deadlineProperties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public DeadlineFilter(DeadlineProperties deadlineProperties) {
+        this.deadlineProperties = deadlineProperties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Deadline.set(Deadline.after(Duration.ofMillis(budgetFor(request))));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    long budgetFor(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested > 0) {
+                    return Math.min(requested, deadlineProperties.getMaxMs());
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed {} header {}", TIMEOUT_HEADER, header);
+            }
+        }
+        String path = request.getServletPath();
+        for (Map.Entry<String, Long> endpoint : deadlineProperties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return deadlineProperties.getDefaultMs();
+    }
+}
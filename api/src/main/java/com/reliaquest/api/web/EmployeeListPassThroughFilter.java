@@ -0,0 +1,201 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.InvalidDataException;
+import com.reliaquest.api.remote.RemoteClient;
+import com.reliaquest.api.util.EmployeeProjection;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pass-through mode for {@code GET /client/employees}. The remote {@code Response} envelope is walked token by token
+ * and its {@code data} array is copied straight to the client, so no {@code Employee} objects are built on the
+ * most-called endpoint. Any remote failure before the first byte is written falls through to the controller, which
+ * answers from the cache without calling the remote a second time.
+ * <p>
+ * Only clients that prefer JSON are handled here; a client asking for Smile or CBOR goes to the controller so the
+ * usual content negotiation applies.
+ * <p>
+ * A {@code fields} projection is forwarded to the remote and also applied while copying, so only the requested
+ * properties reach the client even from a remote that ignores it.
+ * <p>
+ * Requests answered here never reach the controller interceptors, so the filter takes its own
+ * {@link AdmissionControl} slot as a remote request; on fallback the controller keeps that slot.
+ */
+@Slf4j
+@Component
+public class EmployeeListPassThroughFilter extends OncePerRequestFilter {
+
+    static final String EMPLOYEE_LIST_PATH = "/client/employees";
+    public static final String REMOTE_FAILED_ATTRIBUTE = EmployeeListPassThroughFilter.class.getName() + ".remoteFailed";
+    private static final List<MediaType> BINARY_TYPES = List.of(
+            MediaType.parseMediaType("application/x-jackson-smile"), MediaType.parseMediaType("application/cbor"));
+    private static final String DATA_FIELD = "data";
+
+    private final RemoteClient remoteClient;
+    private final AdmissionControl admissionControl;
+    private final JsonFactory jsonFactory;
+    private final boolean enabled;
+
+    @Autowired
+    public EmployeeListPassThroughFilter(RemoteClient remoteClient,
+                                         AdmissionControl admissionControl,
+                                         ObjectMapper objectMapper,
+                                         @Value("${employee.list.pass-through:false}") boolean enabled) {
+        this.remoteClient = remoteClient;
+        this.admissionControl = admissionControl;
+        this.jsonFactory = objectMapper.getFactory();
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || remoteClient.isSharded()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !EMPLOYEE_LIST_PATH.equals(request.getServletPath())
+                || !prefersJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    /**
+     * Whether content negotiation would pick JSON. Wildcards count towards JSON, which is the first converter; an
+     * explicit Smile or CBOR type at the same or a higher quality wins.
+     */
+    static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        double json = 0;
+        double binary = 0;
+        for (MediaType type : accepted) {
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, type.getQualityValue());
+            }
+            if (!type.isWildcardSubtype() && BINARY_TYPES.stream().anyMatch(type::includes)) {
+                binary = Math.max(binary, type.getQualityValue());
+            }
+        }
+        return json > 0 && json > binary;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!admissionControl.admit(request, response, false)) {
+            return;
+        }
+        try {
+            passThrough(request, response, chain);
+        } catch (IOException | ServletException | RuntimeException e) {
+            admissionControl.complete(request, response, e);
+            throw e;
+        }
+        admissionControl.complete(request, response, null);
+    }
+
+    private void passThrough(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Set<String> fields;
+        try {
+            fields = EmployeeProjection.parse(request.getParameter(EmployeeProjection.FIELDS_PARAM));
+        } catch (InvalidDataException e) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Set<String> jsonNames = fields == null ? null : EmployeeProjection.jsonNames(fields);
+        boolean streamed;
+        try {
+            streamed = remoteClient.stream("", EmployeeProjection.toQueryParams(fields),
+                    remote -> copyData(remote.getBody(), response, jsonNames));
+        } catch (RestClientException e) {
+            if (response.isCommitted()) {
+                // Rethrown so the transfer is aborted rather than ending like a complete, shorter list.
+                log.error("Employee list pass-through failed after response was committed {}", e.getMessage());
+                throw e;
+            }
+            log.warn("Employee list pass-through unavailable, falling back {}", e.getMessage());
+            streamed = false;
+        }
+        if (!streamed) {
+            response.reset();
+            request.setAttribute(REMOTE_FAILED_ATTRIBUTE, Boolean.TRUE);
+            chain.doFilter(request, response);
+        }
+    }
+
+    private Boolean copyData(InputStream body, HttpServletResponse response, Set<String> jsonNames) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (DATA_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    response.setStatus(HttpStatus.OK.value());
+                    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                    // Closed only on success: closing after a failure would complete the open array into valid JSON.
+                    JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream())
+                            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                    if (jsonNames == null) {
+                        generator.copyCurrentStructure(parser);
+                    } else {
+                        copyProjected(parser, generator, jsonNames);
+                    }
+                    generator.close();
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+    }
+
+    private static void copyProjected(JsonParser parser, JsonGenerator generator, Set<String> jsonNames)
+            throws IOException {
+        generator.writeStartArray();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (jsonNames.contains(field)) {
+                    generator.writeFieldName(field);
+                    generator.copyCurrentStructure(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
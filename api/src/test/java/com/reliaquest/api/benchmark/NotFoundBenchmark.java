@@ -0,0 +1,86 @@
+package com.reliaquest.api.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.exception.EmployeeNotFound;
+import com.reliaquest.api.exception.ExceptionHandlerAdvice;
+import com.reliaquest.api.service.EmployeeService;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Throughput of {@code GET /client/employees/{id}} for an unknown id through the real handler path: the
+ * {@code DispatcherServlet} (via {@link MockMvc}), {@link EmployeeController} and {@link ExceptionHandlerAdvice},
+ * with their logging. Only {@link EmployeeService} is stubbed, and the stub differs per mode:
+ * <ul>
+ *     <li>{@code stack}: throws an exception with a stack trace, which the advice logs in full at ERROR, as not-found
+ *     used to be handled</li>
+ *     <li>{@code stackless}: throws the stackless {@link EmployeeNotFound}, which the advice turns into a 404</li>
+ *     <li>{@code result}: returns an empty {@link Optional}, which the controller turns into a 404, as
+ *     {@code findEmployeeById} does</li>
+ * </ul>
+ * Logging runs at INFO, Spring Boot's default, and its output is discarded while measuring but still formatted.
+ * Run with {@code ./gradlew api:benchmark -Pbenchmark=NotFoundBenchmark [-Pbench.seconds=5]}.
+ */
+public class NotFoundBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int seconds = Integer.getInteger("seconds", 5);
+        PrintStream console = System.out;
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+        console.printf("%-10s %14s %8s%n", "mode", "requests/s", "status");
+        run(console, "stack", seconds, service -> when(service.findEmployeeById(any())).thenAnswer(invocation -> {
+            throw new IllegalStateException("No employee found with id " + invocation.getArgument(0));
+        }));
+        run(console, "stackless", seconds, service -> when(service.findEmployeeById(any())).thenAnswer(invocation -> {
+            throw new EmployeeNotFound("No employee found with id " + invocation.getArgument(0));
+        }));
+        run(console, "result", seconds, service -> when(service.findEmployeeById(any())).thenReturn(Optional.empty()));
+    }
+
+    private static void run(PrintStream console, String mode, int seconds, Stub stub) throws Exception {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        stub.apply(employeeService);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeController(employeeService))
+                .setControllerAdvice(new ExceptionHandlerAdvice(100))
+                .build();
+        String uri = "/client/employees/" + UUID.randomUUID();
+
+        // The console appender writes through System.out, so swapping it drops the output but keeps the formatting.
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        int status;
+        long requests = 0;
+        long elapsed;
+        try {
+            long warmupUntil = System.nanoTime() + 2_000_000_000L;
+            while (System.nanoTime() < warmupUntil) {
+                mockMvc.perform(get(uri));
+            }
+            long start = System.nanoTime();
+            long end = start + seconds * 1_000_000_000L;
+            do {
+                status = mockMvc.perform(get(uri)).andReturn().getResponse().getStatus();
+                requests++;
+            } while (System.nanoTime() < end);
+            elapsed = System.nanoTime() - start;
+        } finally {
+            System.setOut(console);
+        }
+        console.printf("%-10s %14.0f %8d%n", mode, requests / (elapsed / 1e9), status);
+    }
+
+    private interface Stub {
+        void apply(EmployeeService employeeService);
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.dto.Response;
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Compares payload size and parse time of a {@code Response<List<Employee>>} roster in JSON, Smile and CBOR.
+ * Run with {@code ./gradlew api:benchmark -Pbenchmark=WireFormatBenchmark [-Pbench.roster=10000]}.
+ */
+public class WireFormatBenchmark {
+
+    private static final TypeReference<Response<List<Employee>>> ROSTER_TYPE = new TypeReference<>() {
+    };
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    public static void main(String[] args) throws Exception {
+        int rosterSize = Integer.getInteger("roster", 10_000);
+        Response<List<Employee>> roster = new Response<>(roster(rosterSize));
+
+        System.out.printf("Roster of %d employees%n", rosterSize);
+        System.out.printf("%-6s %12s %16s%n", "format", "bytes", "parse us/op");
+        run("json", new ObjectMapper(), roster);
+        run("smile", new SmileMapper(), roster);
+        run("cbor", new CBORMapper(), roster);
+    }
+
+    private static void run(String name, ObjectMapper mapper, Response<List<Employee>> roster) throws Exception {
+        byte[] payload = mapper.writeValueAsBytes(roster);
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += mapper.readValue(payload, ROSTER_TYPE).getData().size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += mapper.readValue(payload, ROSTER_TYPE).getData().size();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-6s %12d %16.1f   (%d)%n", name, payload.length, elapsed / 1_000.0 / MEASURED_ITERATIONS, sink);
+    }
+
+    private static List<Employee> roster(int size) {
+        Random random = new Random(42);
+        String[] titles = {"Engineer", "Senior Consulting Designer", "Retail Consultant", "Accounting Designer"};
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee(UUID.randomUUID(), "Employee " + i, 30_000 + random.nextInt(470_000),
+                    16 + random.nextInt(54), titles[random.nextInt(titles.length)], "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
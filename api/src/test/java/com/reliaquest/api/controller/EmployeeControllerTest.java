@@ -5,6 +5,7 @@ import com.reliaquest.api.dto.AddEmployeeRequest;
 import com.reliaquest.api.helpers.TestDataProvider;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.EmployeeListPassThroughFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.*;
 
@@ -66,11 +70,27 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).getAllEmployees();
     }
 
+    @Test
+    void testGetAllEmployees_afterFailedPassThroughServesCache() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(EmployeeListPassThroughFilter.REMOTE_FAILED_ATTRIBUTE, Boolean.TRUE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(employeeService.getCachedEmployees(null)).thenReturn(TestDataProvider.getMockEmployees());
+        try {
+            ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
+
+            assertEquals(2, response.getBody().size());
+            verify(employeeService, never()).getAllEmployees();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
     @Test
     void testGetEmployeesByNameSearch_returnsEmployees() {
         String searchString = "John";
         List<Employee> employees = TestDataProvider.getMockEmployees();
-        when(employeeService.getEmployeeByName(searchString)).thenReturn(employees);
+        when(employeeService.searchEmployeesByName(searchString)).thenReturn(employees);
 
         ResponseEntity<List<Employee>> response = employeeController.getEmployeesByNameSearch(searchString);
 
@@ -79,57 +99,57 @@ public class EmployeeControllerTest {
         assertEquals(2, response.getBody().size());
         assertEquals("John Doe", response.getBody().get(0).getName());
         assertEquals("John Ji", response.getBody().get(1).getName());
-        verify(employeeService, times(1)).getEmployeeByName(searchString);
+        verify(employeeService, times(1)).searchEmployeesByName(searchString);
     }
 
     @Test
     void testGetEmployeesByNameSearch_returnsNotFoundForEmptyList() {
         String searchString = "Unknown";
-        when(employeeService.getEmployeeByName(searchString)).thenReturn(Collections.emptyList());
+        when(employeeService.searchEmployeesByName(searchString)).thenReturn(Collections.emptyList());
 
         ResponseEntity<List<Employee>> response = employeeController.getEmployeesByNameSearch(searchString);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isEmpty());
-        verify(employeeService, times(1)).getEmployeeByName(searchString);
+        verify(employeeService, times(1)).searchEmployeesByName(searchString);
     }
 
     @Test
     void testGetEmployeesByNameSearch_returnsNotFoundForNullResponse() {
         String searchString = "Ghost";
-        when(employeeService.getEmployeeByName(searchString)).thenReturn(null);
+        when(employeeService.searchEmployeesByName(searchString)).thenReturn(null);
 
         ResponseEntity<List<Employee>> response = employeeController.getEmployeesByNameSearch(searchString);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
-        verify(employeeService, times(1)).getEmployeeByName(searchString);
+        verify(employeeService, times(1)).searchEmployeesByName(searchString);
     }
 
     @Test
     void testGetEmployeeById_returnsEmployee() {
         Employee employee = TestDataProvider.getMockEmployees().get(0);
-        when(employeeService.getEmployeeById(employee.getId().toString())).thenReturn(employee);
+        when(employeeService.findEmployeeById(employee.getId().toString())).thenReturn(Optional.of(employee));
 
         ResponseEntity<Employee> response = employeeController.getEmployeeById(employee.getId().toString());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("John Doe", response.getBody().getName());
-        verify(employeeService, times(1)).getEmployeeById(employee.getId().toString());
+        verify(employeeService, times(1)).findEmployeeById(employee.getId().toString());
     }
 
     @Test
     void testGetEmployeeById_notFound() {
         String id = "999";
-        when(employeeService.getEmployeeById(id)).thenReturn(null);
+        when(employeeService.findEmployeeById(id)).thenReturn(Optional.empty());
 
         ResponseEntity<Employee> response = employeeController.getEmployeeById(id);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
-        verify(employeeService, times(1)).getEmployeeById(id);
+        verify(employeeService, times(1)).findEmployeeById(id);
     }
 
     @Test
@@ -198,6 +218,21 @@ public class EmployeeControllerTest {
         assertEquals("Unable to add Employee", response.getBody());
     }
 
+    @Test
+    void testCreateEmployee_writeBehindAccepted() {
+        AddEmployeeRequest request = new AddEmployeeRequest("Alice",40000, 30, "Engineer");
+        UUID pendingId = UUID.randomUUID();
+
+        when(employeeService.isWriteBehindEnabled()).thenReturn(true);
+        when(employeeService.enqueueEmployee(request)).thenReturn(pendingId);
+
+        ResponseEntity<?> response = employeeController.createEmployee(request);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertTrue(Objects.requireNonNull(response.getBody()).toString().contains(pendingId.toString()));
+        verify(employeeService, never()).addEmployee(any());
+    }
+
     @Test
     void testDeleteEmployeeById_success() {
         String empId = "123";
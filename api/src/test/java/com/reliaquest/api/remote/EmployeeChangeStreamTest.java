@@ -0,0 +1,110 @@
+package com.reliaquest.api.remote;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.reliaquest.api.dto.EmployeeChangeEvent;
+import com.reliaquest.api.helpers.TestDataProvider;
+import com.reliaquest.api.model.Employee;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeChangeStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Cache<String, Employee> employeeCache = CacheBuilder.newBuilder().build();
+    private final BlockingQueue<Object> published = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> lastEventIds = new LinkedBlockingQueue<>();
+    private final Queue<String> bodies = new ConcurrentLinkedQueue<>();
+
+    private HttpServer server;
+    private EmployeeChangeStream stream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/employee/events", this::serve);
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/employee";
+        stream = new EmployeeChangeStream(employeeCache, published::add, objectMapper,
+                new ShardRouter(baseUrl, "", 64, 1000), true, "events", 10, 20, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.stop();
+        server.stop(0);
+    }
+
+    @Test
+    void reconnect_resumesFromLastEventIdAndResyncsOnReset() throws Exception {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        Employee removed = employees.get(0);
+        Employee kept = employees.get(1);
+        bodies.add(employeeEvent("e1-1", 1, EmployeeChangeEvent.Type.CREATED, removed));
+        bodies.add(employeeEvent("e1-2", 2, EmployeeChangeEvent.Type.CREATED, kept)
+                + employeeEvent("e1-3", 3, EmployeeChangeEvent.Type.DELETED, removed));
+        // The remote restarted: the old id belongs to another epoch, so it answers with a reset.
+        bodies.add("id:e2-0\nevent:" + EmployeeChangeStream.RESET_EVENT + "\ndata:0\n\n");
+
+        stream.start();
+
+        assertEquals("", nextLastEventId());
+        assertEquals("e1-1", nextLastEventId());
+        assertEquals("e1-3", nextLastEventId());
+        assertEquals("e2-0", nextLastEventId());
+
+        assertNull(employeeCache.getIfPresent(removed.getId().toString()));
+        assertEquals(kept, employeeCache.getIfPresent(kept.getId().toString()));
+        // One resync for the first subscription, one for the reset; resumed subscriptions need none.
+        assertEquals(2, published.size());
+        assertTrue(published.stream().allMatch(EmployeeCacheResyncEvent.class::isInstance));
+    }
+
+    private String nextLastEventId() throws InterruptedException {
+        String lastEventId = lastEventIds.poll(5, TimeUnit.SECONDS);
+        assertNotNull(lastEventId, "stream did not reconnect within 5s");
+        return lastEventId;
+    }
+
+    private String employeeEvent(String id, long sequence, EmployeeChangeEvent.Type type, Employee employee)
+            throws IOException {
+        String data = objectMapper.writeValueAsString(new EmployeeChangeEvent(sequence, type, employee));
+        return "id:" + id + "\nevent:" + EmployeeChangeStream.EMPLOYEE_EVENT + "\ndata:" + data + "\n\n";
+    }
+
+    /**
+     * Answers each connection with the next scripted body and closes it; once the script runs out it answers 503.
+     */
+    private void serve(HttpExchange exchange) throws IOException {
+        String lastEventId = exchange.getRequestHeaders().getFirst(EmployeeChangeStream.LAST_EVENT_ID);
+        lastEventIds.add(lastEventId == null ? "" : lastEventId);
+        String body = bodies.poll();
+        if (body == null) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.remote;
+
+import com.reliaquest.api.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RemoteBulkheadsTest {
+
+    @Test
+    void execute_slowStreamDoesNotTakeReadSlots() throws Exception {
+        RemoteBulkheads bulkheads = new RemoteBulkheads(new SimpleMeterRegistry(), 1, 0, 1, 0, 1, 0, 1, 0, 50);
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch clientDone = new CountDownLatch(1);
+        CompletableFuture<String> stream = CompletableFuture.supplyAsync(() -> bulkheads.execute(RemoteCallClass.STREAM, () -> {
+            streaming.countDown();
+            try {
+                clientDone.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "streamed";
+        }));
+        assertTrue(streaming.await(5, TimeUnit.SECONDS));
+
+        assertEquals("read", bulkheads.execute(RemoteCallClass.READ, () -> "read"));
+        assertThrows(BulkheadFullException.class, () -> bulkheads.execute(RemoteCallClass.STREAM, () -> "second"));
+
+        clientDone.countDown();
+        assertEquals("streamed", stream.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.api.remote;
+
+import com.reliaquest.api.exception.RemoteBudgetExhaustedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RemoteCallSchedulerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private SimpleMeterRegistry meterRegistry;
+    private RemoteCallScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new RemoteCallScheduler(meterRegistry, true, 60000, 5, 10, 2, 0, 0, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void execute_rejectsForegroundOnceBudgetIsUsed() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("ok", scheduler.execute(RemoteCallClass.READ, () -> "ok"));
+        }
+
+        assertThrows(RemoteBudgetExhaustedException.class, () -> scheduler.execute(RemoteCallClass.WRITE, () -> "ok"));
+        assertEquals(1, meterRegistry.counter("remote.scheduler.rejected").count());
+    }
+
+    @Test
+    void execute_keepsReserveForForeground() {
+        for (int i = 0; i < 3; i++) {
+            scheduler.execute(RemoteCallClass.BACKGROUND, () -> "ok");
+        }
+
+        assertThrows(RemoteBudgetExhaustedException.class,
+                () -> scheduler.execute(RemoteCallClass.BACKGROUND, () -> "ok"));
+        assertEquals("ok", scheduler.execute(RemoteCallClass.READ, () -> "ok"));
+        assertEquals("ok", scheduler.execute(RemoteCallClass.WRITE, () -> "ok"));
+    }
+
+    @Test
+    void execute_refillsAfterWindowAndRaisesEstimate() {
+        for (int i = 0; i < 5; i++) {
+            scheduler.execute(RemoteCallClass.READ, () -> "ok");
+        }
+        assertEquals(0, scheduler.remaining());
+
+        now.addAndGet(60000);
+
+        assertEquals(6, scheduler.remaining());
+    }
+
+    @Test
+    void execute_rateLimitedResponseExhaustsBudget() {
+        scheduler.execute(RemoteCallClass.READ, () -> "ok");
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> scheduler.execute(RemoteCallClass.READ, () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        }));
+
+        assertEquals(0, scheduler.remaining());
+        now.addAndGet(60000);
+        assertEquals(5, scheduler.remaining());
+    }
+
+    @Test
+    void execute_rateLimitOnOneShardLeavesOthersAlone() {
+        scheduler.execute(1, RemoteCallClass.READ, () -> "ok");
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> scheduler.execute(1, RemoteCallClass.READ, () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        }));
+
+        assertEquals(0, scheduler.remaining(1));
+        assertEquals(5, scheduler.remaining(0));
+        for (int i = 0; i < 5; i++) {
+            assertEquals("ok", scheduler.execute(0, RemoteCallClass.READ, () -> "ok"));
+        }
+        assertThrows(RemoteBudgetExhaustedException.class, () -> scheduler.execute(1, RemoteCallClass.READ, () -> "ok"));
+    }
+
+    @Test
+    void submitBackground_mergesQueuedWork() {
+        for (int i = 0; i < 5; i++) {
+            scheduler.execute(RemoteCallClass.READ, () -> "ok");
+        }
+
+        scheduler.submitBackground("reload", () -> fail("no budget for background work"));
+        scheduler.submitBackground("reload", () -> fail("no budget for background work"));
+
+        assertEquals(1, meterRegistry.counter("remote.scheduler.background.merged").count());
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.remote;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestHedgerTest {
+
+    private RequestHedger requestHedger;
+
+    @AfterEach
+    void tearDown() {
+        requestHedger.shutdown();
+    }
+
+    @Test
+    void execute_hedgeWinsWhenPrimaryIsSlow() {
+        requestHedger = new RequestHedger(true, 20, 95, 1, 1.0, 3, 30000, 4);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        String result = requestHedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(release);
+                return "primary";
+            }
+            return "hedge";
+        });
+        release.countDown();
+
+        assertEquals("hedge", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void execute_noHedgeWithoutBudget() {
+        requestHedger = new RequestHedger(true, 20, 95, 1, 0.0, 3, 30000, 4);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = requestHedger.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(60);
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_propagatesFailureOfOnlyAttempt() {
+        requestHedger = new RequestHedger(true, 1000, 95, 1, 0.1, 3, 30000, 4);
+
+        assertThrows(RestClientException.class, () -> requestHedger.execute(() -> {
+            throw new RestClientException("error");
+        }));
+    }
+
+    @Test
+    void execute_disconnectsLosingAttemptBlockedOnRead() throws Exception {
+        requestHedger = new RequestHedger(true, 20, 95, 1, 1.0, 3, 30000, 4);
+        RestTemplate restTemplate = new RestTemplate(new DeadlineAwareRequestFactory(2000, 30000, 0));
+        CompletableFuture<Throwable> loserFailure = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+        // Accepts connections in its backlog but never answers, so the primary blocks reading the response.
+        try (ServerSocket silent = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            String url = "http://127.0.0.1:" + silent.getLocalPort() + "/";
+
+            String result = requestHedger.execute(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    try {
+                        return restTemplate.getForObject(url, String.class);
+                    } catch (RuntimeException e) {
+                        loserFailure.complete(e);
+                        throw e;
+                    }
+                }
+                return "hedge";
+            });
+
+            assertEquals("hedge", result);
+            assertInstanceOf(ResourceAccessException.class, loserFailure.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.api.remote;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardRouterTest {
+
+    @Test
+    void singleBaseUrlIsNotSharded() {
+        ShardRouter router = new ShardRouter("http://localhost:8112/api/v1/employee", "", 64, 1000);
+
+        assertFalse(router.isSharded());
+        assertEquals(0, router.shardFor(UUID.randomUUID().toString()));
+        assertEquals("http://localhost:8112/api/v1/employee", router.urlOf(0));
+    }
+
+    @Test
+    void ringSpreadsIdsAcrossShards() {
+        ShardRouter router = new ShardRouter("unused", "http://a, http://b, http://c", 64, 1000);
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            used.add(router.shardFor(UUID.randomUUID().toString()));
+        }
+
+        assertTrue(router.isSharded());
+        assertEquals(Set.of(0, 1, 2), used);
+    }
+
+    @Test
+    void learnedPlacementOverridesRing() {
+        ShardRouter router = new ShardRouter("unused", "http://a,http://b", 64, 1000);
+        String id = UUID.randomUUID().toString();
+        int other = 1 - router.ringShardFor(id);
+
+        router.place(id, other);
+        assertEquals(other, router.shardFor(id));
+        assertTrue(router.isPlaced(id));
+
+        router.forget(id);
+        assertEquals(router.ringShardFor(id), router.shardFor(id));
+    }
+}
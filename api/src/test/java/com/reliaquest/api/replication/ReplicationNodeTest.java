@@ -0,0 +1,144 @@
+package com.reliaquest.api.replication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.helpers.TestDataProvider;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplicationNodeTest {
+
+    private static final long HEARTBEAT_MS = 50;
+    private static final long PEER_TIMEOUT_MS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<ReplicationNode> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ReplicationNode::stop);
+    }
+
+    @Test
+    void handle_decodesEachFrameType() throws Exception {
+        BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        ReplicationNode node = node(events, 1, 0, "");
+        List<Employee> roster = TestDataProvider.getMockEmployees();
+
+        node.handle(ReplicationNode.HEARTBEAT, ByteBuffer.allocate(Integer.BYTES).putInt(2).array());
+        assertTrue(events.isEmpty());
+
+        node.handle(ReplicationNode.SNAPSHOT, objectMapper.writeValueAsBytes(roster));
+        assertEquals(roster, next(events, ReplicatedRosterEvent.class).getEmployees());
+
+        node.handle(ReplicationNode.PUT, objectMapper.writeValueAsBytes(roster.get(0)));
+        ReplicatedEmployeeEvent put = next(events, ReplicatedEmployeeEvent.class);
+        assertEquals(roster.get(0), put.getEmployee());
+        assertNull(put.getRemovedId());
+
+        String removedId = roster.get(1).getId().toString();
+        node.handle(ReplicationNode.REMOVE, removedId.getBytes(StandardCharsets.UTF_8));
+        ReplicatedEmployeeEvent removed = next(events, ReplicatedEmployeeEvent.class);
+        assertEquals(removedId, removed.getRemovedId());
+        assertNull(removed.getEmployee());
+
+        node.handle((byte) 99, new byte[0]);
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void lowestLiveNodeLeadsAndPeerTakesOverWhenItStops() throws Exception {
+        int port1 = freePort();
+        int port2 = freePort();
+        BlockingQueue<Object> events1 = new LinkedBlockingQueue<>();
+        BlockingQueue<Object> events2 = new LinkedBlockingQueue<>();
+        ReplicationNode node1 = node(events1, 1, port1, "2@127.0.0.1:" + port2);
+        ReplicationNode node2 = node(events2, 2, port2, "1@127.0.0.1:" + port1);
+        node1.start();
+        node2.start();
+
+        next(events1, ReplicationLeaderEvent.class);
+        assertTrue(node1.isLeader());
+        assertFalse(node2.isLeader());
+
+        List<Employee> roster = TestDataProvider.getMockEmployees();
+        node1.publishSnapshot(roster);
+        assertEquals(roster, next(events2, ReplicatedRosterEvent.class).getEmployees());
+
+        node1.stop();
+        next(events2, ReplicationLeaderEvent.class);
+        assertTrue(node2.isLeader());
+    }
+
+    @Test
+    void stalledPeerDoesNotHoldUpOtherPeers() throws Exception {
+        // Completes the TCP handshake from its backlog but never reads.
+        try (ServerSocket stalled = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            int port3 = freePort();
+            BlockingQueue<Object> events3 = new LinkedBlockingQueue<>();
+            node(events3, 3, port3, "").start();
+            ReplicationNode node1 = node(new LinkedBlockingQueue<>(), 1, freePort(),
+                    "2@127.0.0.1:" + stalled.getLocalPort() + ",3@127.0.0.1:" + port3);
+            node1.start();
+            List<Employee> employees = TestDataProvider.getMockEmployees();
+            assertTrue(eventually(() -> {
+                node1.publishPut(employees.get(0));
+                return !events3.isEmpty();
+            }), "peer 3 connected");
+
+            // Far more than the socket buffers of the stalled connection can take.
+            Employee large = new Employee(UUID.randomUUID(), "x".repeat(4 * 1024 * 1024), 1, 30, "Filler", null);
+            for (int i = 0; i < 8; i++) {
+                node1.publishPut(large);
+            }
+            node1.publishPut(employees.get(1));
+
+            assertTrue(eventually(() -> events3.stream().anyMatch(event -> event instanceof ReplicatedEmployeeEvent put
+                    && employees.get(1).equals(put.getEmployee()))), "peer 3 received the put after the large ones");
+        }
+    }
+
+    private ReplicationNode node(BlockingQueue<Object> events, int nodeId, int port, String peers) {
+        ReplicationNode node = new ReplicationNode(objectMapper, events::add, true, nodeId, "127.0.0.1", port, peers,
+                HEARTBEAT_MS, PEER_TIMEOUT_MS);
+        nodes.add(node);
+        return node;
+    }
+
+    private static <T> T next(BlockingQueue<Object> events, Class<T> type) throws InterruptedException {
+        Object event = events.poll(5, TimeUnit.SECONDS);
+        return assertInstanceOf(type, event);
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(HEARTBEAT_MS);
+        }
+        return true;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
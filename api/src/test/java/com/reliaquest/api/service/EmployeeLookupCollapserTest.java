@@ -0,0 +1,107 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.Response;
+import com.reliaquest.api.helpers.TestDataProvider;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.Deadline;
+import com.reliaquest.api.remote.RemoteClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeLookupCollapserTest {
+
+    private RemoteClient remoteClient;
+    private EmployeeLookupCollapser collapser;
+
+    @BeforeEach
+    void setup() {
+        remoteClient = mock(RemoteClient.class);
+        collapser = new EmployeeLookupCollapser(remoteClient, new SimpleMeterRegistry(), true, 200, 3, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        collapser.shutdown();
+    }
+
+    @Test
+    void lookup_singleIdUsesGetById() {
+        Employee employee = TestDataProvider.getMockEmployees().get(0);
+        String id = employee.getId().toString();
+        when(remoteClient.get(eq(id), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new Response<>(employee)));
+
+        assertEquals(employee, collapser.lookup(id));
+        verify(remoteClient, never()).getList(any(), any(), any());
+    }
+
+    @Test
+    void lookup_concurrentIdsShareOneRosterFetch() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(employees)));
+        List<String> ids = new ArrayList<>();
+        employees.forEach(employee -> ids.add(employee.getId().toString()));
+        ids.add(UUID.randomUUID().toString());
+
+        ExecutorService callers = Executors.newFixedThreadPool(ids.size());
+        List<CompletableFuture<Employee>> results = ids.stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> collapser.lookup(id), callers))
+                .toList();
+        callers.shutdown();
+
+        assertEquals(employees.get(0), results.get(0).join());
+        assertEquals(employees.get(1), results.get(1).join());
+        assertNull(results.get(2).join());
+        verify(remoteClient, times(1)).getList(any(), any(), any());
+        verify(remoteClient, never()).get(any(), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void lookup_batchRunsUnderLatestCallerDeadline() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        AtomicLong remainingAtFetch = new AtomicLong();
+        when(remoteClient.getList(any(), any(), any())).thenAnswer(invocation -> {
+            remainingAtFetch.set(Deadline.current().orElseThrow().remainingMillis());
+            return ResponseEntity.ok(new Response<>(employees));
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        CompletableFuture<Employee> hurried = CompletableFuture.supplyAsync(
+                () -> lookupWithin(employees.get(0).getId().toString(), Duration.ofMillis(50)), callers);
+        CompletableFuture<Employee> patient = CompletableFuture.supplyAsync(
+                () -> lookupWithin(employees.get(1).getId().toString(), Duration.ofSeconds(5)), callers);
+        callers.shutdown();
+
+        assertEquals(employees.get(1), patient.join());
+        assertTrue(remainingAtFetch.get() > 1000);
+        CompletionException failure = assertThrows(CompletionException.class, hurried::join);
+        assertInstanceOf(ResourceAccessException.class, failure.getCause());
+    }
+
+    private Employee lookupWithin(String id, Duration budget) {
+        Deadline.set(Deadline.after(budget));
+        try {
+            return collapser.lookup(id);
+        } finally {
+            Deadline.clear();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeQuery;
+import com.reliaquest.api.helpers.TestDataProvider;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeQueryIndexTest {
+
+    private EmployeeQueryIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new EmployeeQueryIndex(10000);
+        TestDataProvider.getAllMockEmployees().forEach(emp -> index.onPut(null, emp));
+    }
+
+    @Test
+    void query_byTitleIgnoresCase() {
+        List<Employee> result = index.query(new EmployeeQuery("retail consultant", null, null, null, null, null));
+
+        assertEquals(1, result.size());
+        assertEquals("Byron Hoeger", result.get(0).getName());
+    }
+
+    @Test
+    void query_combinesAgeAndSalaryRanges() {
+        List<Employee> result = index.query(new EmployeeQuery(null, 60, 70, 300000, null, null));
+
+        assertEquals(List.of("Byron Hoeger", "Dr. Agueda Lowe"),
+                result.stream().map(Employee::getName).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void query_appliesExactSalaryBoundsInsideBuckets() {
+        List<Employee> result = index.query(new EmployeeQuery(null, null, null, 294249, 310861, null));
+
+        assertEquals(List.of("Floyd Wiegand"), result.stream().map(Employee::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void query_fallsBackToScanForName() {
+        List<Employee> result = index.query(new EmployeeQuery(null, null, null, null, null, "iv"));
+
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void onRemove_dropsEmployeeFromIndexes() {
+        Employee employee = new Employee(UUID.randomUUID(), "Temp", 12345, 22, "Intern", null);
+        index.onPut(null, employee);
+        assertEquals(1, index.query(new EmployeeQuery("Intern", null, null, null, null, null)).size());
+
+        index.onRemove(employee);
+
+        assertTrue(index.query(new EmployeeQuery("Intern", null, null, null, null, null)).isEmpty());
+        assertEquals(11, index.size());
+    }
+
+    @Test
+    void onPut_withoutPreviousReplacesExistingSlot() {
+        Employee first = new Employee(UUID.randomUUID(), "Twice", 10000, 30, "Tester", "twice@company.com");
+        Employee second = new Employee(first.getId(), "Twice", 20000, 30, "Tester", "twice@company.com");
+        int before = index.size();
+
+        index.onPut(null, first);
+        index.onPut(null, second);
+
+        assertEquals(before + 1, index.size());
+        assertEquals(List.of(second), index.query(new EmployeeQuery("tester", null, null, null, null, null)));
+    }
+
+    @Test
+    void onEvict_ofReplacedEntryKeepsReplacement() {
+        Employee first = new Employee(UUID.randomUUID(), "Late", 10000, 30, "Tester", "late@company.com");
+        Employee second = new Employee(first.getId(), "Late", 20000, 30, "Tester", "late@company.com");
+        index.onPut(null, first);
+        index.onPut(first, second);
+
+        index.onEvict(first);
+
+        assertEquals(List.of(second), index.query(new EmployeeQuery("tester", null, null, null, null, null)));
+    }
+
+    @Test
+    void matching_agreesWithIndex() {
+        EmployeeQuery query = new EmployeeQuery(null, 60, 70, 300000, null, "o");
+
+        List<String> scanned = TestDataProvider.getAllMockEmployees().stream()
+                .filter(EmployeeQueryIndex.matching(query))
+                .map(Employee::getName)
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertEquals(index.query(query).stream().map(Employee::getName).sorted().collect(Collectors.toList()), scanned);
+        assertFalse(scanned.isEmpty());
+    }
+}
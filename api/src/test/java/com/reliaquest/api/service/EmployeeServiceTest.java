@@ -10,17 +10,27 @@ import com.reliaquest.api.exception.InvalidDataException;
 import com.reliaquest.api.exception.RemoteAccessException;
 import com.reliaquest.api.helpers.TestDataProvider;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.EmployeeChangeStream;
+import com.reliaquest.api.remote.RemoteCallScheduler;
 import com.reliaquest.api.remote.RemoteClient;
+import com.reliaquest.api.replication.ReplicatedEmployeeEvent;
+import com.reliaquest.api.replication.ReplicatedRosterEvent;
+import com.reliaquest.api.replication.ReplicationNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +41,12 @@ public class EmployeeServiceTest {
 
 
     private RemoteClient remoteClient;
+    private EmployeeChangeStream employeeChangeStream;
+    private WriteBehindQueue writeBehindQueue;
+    private RosterStatistics rosterStatistics;
+    private RemoteCallScheduler remoteCallScheduler;
+    private UnknownEmployeeFilter unknownEmployeeFilter;
+    private ReplicationNode replicationNode;
     private Cache<String, Employee> mockCache;
 
     private EmployeeService employeeService;
@@ -38,9 +54,22 @@ public class EmployeeServiceTest {
     @BeforeEach
     void setup() {
         remoteClient = mock(RemoteClient.class);
+        employeeChangeStream = mock(EmployeeChangeStream.class);
+        writeBehindQueue = mock(WriteBehindQueue.class);
+        rosterStatistics = new RosterStatistics();
+        remoteCallScheduler = mock(RemoteCallScheduler.class);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(remoteCallScheduler).submitBackground(any(), any());
+        unknownEmployeeFilter = new UnknownEmployeeFilter(new SimpleMeterRegistry(), 0.01, 1024, 600000, 30000, 1000);
+        replicationNode = mock(ReplicationNode.class);
+        lenient().when(replicationNode.isLeader()).thenReturn(true);
         mockCache = CacheBuilder.newBuilder().build();
 
-        employeeService = new EmployeeService(remoteClient, mockCache);
+        employeeService = new EmployeeService(remoteClient, mockCache, employeeChangeStream, writeBehindQueue,
+                rosterStatistics, remoteCallScheduler, unknownEmployeeFilter,
+                new EmployeeLookupCollapser(remoteClient, new SimpleMeterRegistry(), false, 5, 16, 1), replicationNode);
     }
     @Test
     void getAllEmployees_success() {
@@ -96,6 +125,20 @@ public class EmployeeServiceTest {
         assertThrows(EmployeeNotFound.class, () -> employeeService.getEmployeeByName("Ghost"));
     }
 
+    @Test
+    void getAllEmployees_projectsRequestedFields() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(remoteClient.getList(any(), eq(Map.of("fields", "id,name")), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new Response<>(employees)));
+
+        List<Employee> result = employeeService.getAllEmployees(new LinkedHashSet<>(List.of("id", "name")));
+
+        assertEquals(employees.get(0).getId(), result.get(0).getId());
+        assertEquals("John Doe", result.get(0).getName());
+        assertNull(result.get(0).getSalary());
+        assertNull(result.get(0).getEmail());
+    }
+
     @Test
     void getEmployeeById_success() {
         List<Employee> employees = TestDataProvider.getMockEmployees();
@@ -138,6 +181,61 @@ public class EmployeeServiceTest {
         assertThrows(EmployeeNotFound.class, () -> employeeService.getEmployeeById(id.toString()));
     }
 
+    @Test
+    void getEmployeeById_remoteNotFoundIsCachedNegatively() {
+        UUID id = UUID.randomUUID();
+        when(remoteClient.get(eq(id.toString()), any(), any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertThrows(EmployeeNotFound.class, () -> employeeService.getEmployeeById(id.toString()));
+        assertThrows(EmployeeNotFound.class, () -> employeeService.getEmployeeById(id.toString()));
+
+        verify(remoteClient, times(1)).get(eq(id.toString()), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void getEmployeeById_unknownIdAfterRefreshSkipsRemote() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(employeeChangeStream.isConnected()).thenReturn(false);
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(employees)));
+        employeeService.refreshCache();
+
+        assertThrows(EmployeeNotFound.class, () -> employeeService.getEmployeeById(UUID.randomUUID().toString()));
+
+        verify(remoteClient, never()).get(any(), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void findEmployeeById_missingFromRosterIsRememberedAsUnknown() {
+        String id = UUID.randomUUID().toString();
+        when(remoteClient.get(eq(id), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(null));
+
+        assertTrue(employeeService.findEmployeeById(id).isEmpty());
+        assertTrue(employeeService.findEmployeeById(id).isEmpty());
+
+        verify(remoteClient, times(1)).get(eq(id), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void findEmployeeById_unknownIdIsEmptyWithoutException() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(employeeChangeStream.isConnected()).thenReturn(false);
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(employees)));
+        employeeService.refreshCache();
+
+        assertTrue(employeeService.findEmployeeById(UUID.randomUUID().toString()).isEmpty());
+        verify(remoteClient, never()).get(any(), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void searchEmployeesByName_noMatchIsEmpty() {
+        when(remoteClient.getList(any(), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new Response<>(TestDataProvider.getMockEmployees())));
+
+        assertTrue(employeeService.searchEmployeesByName("Ghost").isEmpty());
+    }
+
     @Test
     void getTopSalary_success() {
         List<Employee> employees = TestDataProvider.getMockEmployees();
@@ -149,6 +247,43 @@ public class EmployeeServiceTest {
         assertEquals(400000, topSalary);
     }
 
+    @Test
+    void getTopSalary_fromRosterStatistics() {
+        TestDataProvider.getAllMockEmployees().forEach(emp -> rosterStatistics.onPut(null, emp));
+        rosterStatistics.markComplete(TestDataProvider.getAllMockEmployees().size());
+
+        Integer topSalary = employeeService.getTopSalary();
+
+        assertEquals(449504, topSalary);
+        verifyNoInteractions(remoteClient);
+    }
+
+    @Test
+    void getTopSalary_scansRemoteWhenStatisticsIncomplete() {
+        List<Employee> cached = TestDataProvider.getAllMockEmployees();
+        cached.forEach(emp -> rosterStatistics.onPut(null, emp));
+        rosterStatistics.markComplete(cached.size());
+        rosterStatistics.onEvict(cached.get(0));
+        Employee top = new Employee(UUID.randomUUID(), "Top", 900000, 50, "CEO", "top@company.com");
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(List.of(top))));
+
+        assertEquals(900000, employeeService.getTopSalary());
+    }
+
+    @Test
+    void refreshCache_completeRosterDropsDeletedEmployees() {
+        Employee deleted = new Employee(UUID.randomUUID(), "Gone", 10000, 20, "Dev", "gone@company.com");
+        mockCache.put(deleted.getId().toString(), deleted);
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(employeeChangeStream.isConnected()).thenReturn(false);
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(employees)));
+
+        employeeService.refreshCache();
+
+        assertNull(mockCache.getIfPresent(deleted.getId().toString()));
+        assertEquals(2, mockCache.size());
+    }
+
     @Test
     void getTopSalary_emptyList() {
         Response<List<Employee>> response =new Response<>(Collections.emptyList());
@@ -205,15 +340,14 @@ public class EmployeeServiceTest {
         UUID id = UUID.randomUUID();
         Employee emp = new Employee(id, "Rob",20000, 30, "HR", "hr@gmail.com");
         mockCache.put(id.toString(), emp);
-        Response<Employee> response =new Response<>(emp);
 
-        when(remoteClient.get(eq(id.toString()), any(), any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(response));
-        when(remoteClient.delete(any(), any(), any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(new Response<>(true)));
+        when(remoteClient.delete(eq(id.toString()), isNull(), any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(new Response<>(emp)));
 
         String name = employeeService.removeEmployee(id.toString());
 
         assertEquals("Rob", name);
         assertNull(mockCache.getIfPresent(id.toString()));
+        verify(remoteClient, never()).get(any(), any(), any(ParameterizedTypeReference.class));
     }
 
     @Test
@@ -221,13 +355,128 @@ public class EmployeeServiceTest {
         UUID id = UUID.randomUUID();
         Employee emp = new Employee(id, "Rob",20000, 30, "HR", "hr@gmail.com");
         mockCache.put(id.toString(), emp);
-        Response<Employee> response = new Response<>(emp);
-        when(remoteClient.get(eq(id.toString()), any(), any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(response));
-        when(remoteClient.delete(any(), any(),any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(new Response<>(false)));
+        when(remoteClient.delete(any(), any(),any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(new Response<>(null)));
 
         String name = employeeService.removeEmployee(id.toString());
 
         assertNull(name);
         assertNotNull(mockCache.getIfPresent(id.toString())); // still there
     }
+
+    @Test
+    void removeEmployee_notFound() {
+        UUID id = UUID.randomUUID();
+        when(remoteClient.delete(eq(id.toString()), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertThrows(EmployeeNotFound.class, () -> employeeService.removeEmployee(id.toString()));
+    }
+
+    @Test
+    void removeEmployee_fallsBackToDeleteByName() {
+        UUID id = UUID.randomUUID();
+        Employee emp = new Employee(id, "Rob",20000, 30, "HR", "hr@gmail.com");
+        mockCache.put(id.toString(), emp);
+        when(remoteClient.delete(eq(id.toString()), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.METHOD_NOT_ALLOWED, "Method Not Allowed", null, null, null));
+        when(remoteClient.get(eq(id.toString()), any(), any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(new Response<>(emp)));
+        when(remoteClient.delete(eq(""), any(), any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(new Response<>(true)));
+
+        String name = employeeService.removeEmployee(id.toString());
+
+        assertEquals("Rob", name);
+        assertNull(mockCache.getIfPresent(id.toString()));
+    }
+
+    @Test
+    void refreshCache_pollsWhenChangeStreamDown() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(employeeChangeStream.isConnected()).thenReturn(false);
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(employees)));
+
+        employeeService.refreshCache();
+
+        assertEquals(2, mockCache.size());
+    }
+
+    @Test
+    void refreshCache_partialRosterDoesNotHideUnknownIds() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        Response<List<Employee>> partial = new Response<>(employees);
+        partial.setError("Partial result, shards unavailable: [http://b]");
+        when(employeeChangeStream.isConnected()).thenReturn(false);
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(partial));
+        employeeService.refreshCache();
+        String id = UUID.randomUUID().toString();
+        when(remoteClient.get(eq(id), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new Response<>(new Employee(UUID.fromString(id), "Rob", 20000, 30, "HR", "hr@gmail.com"))));
+
+        assertEquals("Rob", employeeService.getEmployeeById(id).getName());
+        assertEquals(2, mockCache.size());
+    }
+
+    @Test
+    void refreshCache_skippedWhileChangeStreamConnected() {
+        when(employeeChangeStream.isConnected()).thenReturn(true);
+
+        employeeService.refreshCache();
+
+        verifyNoInteractions(remoteClient);
+        assertEquals(0, mockCache.size());
+    }
+
+    @Test
+    void refreshCacheWhileConnected_reloadsFullRoster() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(employeeChangeStream.isConnected()).thenReturn(true);
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(employees)));
+
+        employeeService.refreshCacheWhileConnected();
+
+        assertEquals(2, mockCache.size());
+    }
+
+    @Test
+    void refreshCache_skippedOnReplicationFollower() {
+        when(employeeChangeStream.isConnected()).thenReturn(false);
+        when(replicationNode.isLeader()).thenReturn(false);
+
+        employeeService.refreshCache();
+
+        verifyNoInteractions(remoteClient);
+    }
+
+    @Test
+    void refreshCache_publishesCompleteRosterToPeers() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        when(employeeChangeStream.isConnected()).thenReturn(false);
+        when(remoteClient.getList(any(), any(), any())).thenReturn(ResponseEntity.ok(new Response<>(employees)));
+
+        employeeService.refreshCache();
+
+        verify(replicationNode).publishSnapshot(employees);
+    }
+
+    @Test
+    void onReplicatedRoster_fillsCacheAndKnownIds() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+
+        employeeService.onReplicatedRoster(new ReplicatedRosterEvent(this, employees));
+
+        assertEquals(employees.size(), mockCache.size());
+        assertThrows(EmployeeNotFound.class, () -> employeeService.getEmployeeById(UUID.randomUUID().toString()));
+        verifyNoInteractions(remoteClient);
+    }
+
+    @Test
+    void onReplicatedEmployee_appliesPutAndRemove() {
+        Employee employee = TestDataProvider.getMockEmployees().get(0);
+        String id = employee.getId().toString();
+
+        employeeService.onReplicatedEmployee(ReplicatedEmployeeEvent.put(this, employee));
+        assertEquals(employee, mockCache.getIfPresent(id));
+
+        employeeService.onReplicatedEmployee(ReplicatedEmployeeEvent.removed(this, id));
+        assertNull(mockCache.getIfPresent(id));
+    }
 }
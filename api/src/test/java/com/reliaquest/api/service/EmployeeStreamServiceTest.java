@@ -0,0 +1,103 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.reliaquest.api.helpers.TestDataProvider;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.RemoteClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeStreamServiceTest {
+
+    private static final String REMOTE_BODY = """
+            {"data":[
+              {"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon","employee_salary":320800},
+              {"id":"5255f1a5-f9f7-4be5-829a-134bde088d17","employee_name":"Bill Bob","employee_salary":89750}
+            ],"status":"Successfully processed request."}
+            """;
+
+    private RemoteClient remoteClient;
+    private Cache<String, Employee> employeeCache;
+    private EmployeeStreamService employeeStreamService;
+
+    @BeforeEach
+    void setup() {
+        remoteClient = mock(RemoteClient.class);
+        employeeCache = CacheBuilder.newBuilder().build();
+        employeeStreamService = new EmployeeStreamService(remoteClient, employeeCache, new ObjectMapper());
+    }
+
+    @Test
+    void streamAllEmployees_writesOneRemoteEmployeePerLine() throws Exception {
+        when(remoteClient.stream(any(), any(), any())).thenAnswer(invocation -> invocation
+                .<ResponseExtractor<Boolean>>getArgument(2)
+                .extractData(new MockClientHttpResponse(REMOTE_BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        employeeStreamService.streamAllEmployees(Set.of("name"), out);
+
+        assertEquals("{\"employee_name\":\"Tiger Nixon\"}\n{\"employee_name\":\"Bill Bob\"}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamAllEmployees_fallsBackToCacheWhenRemoteFails() throws Exception {
+        TestDataProvider.getMockEmployees().forEach(employee -> employeeCache.put(employee.getId().toString(), employee));
+        when(remoteClient.stream(any(), any(), any())).thenThrow(new ResourceAccessException("down"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        employeeStreamService.streamAllEmployees(null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertNotNull(new ObjectMapper().readValue(line, Employee.class).getId());
+        }
+    }
+
+    @Test
+    void streamAllEmployees_remoteFailureAfterFirstLineAbortsStream() throws Exception {
+        TestDataProvider.getMockEmployees().forEach(employee -> employeeCache.put(employee.getId().toString(), employee));
+        String truncated = REMOTE_BODY.substring(0, REMOTE_BODY.indexOf("\"Bill Bob\""));
+        when(remoteClient.stream(any(), any(), any())).thenAnswer(invocation -> {
+            try {
+                return invocation.<ResponseExtractor<Boolean>>getArgument(2)
+                        .extractData(new MockClientHttpResponse(truncated.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+            } catch (IOException e) {
+                throw new ResourceAccessException("connection reset", e);
+            }
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(ResourceAccessException.class, () -> employeeStreamService.streamAllEmployees(Set.of("id", "name"), out));
+
+        assertEquals("{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\",\"employee_name\":\"Tiger Nixon\"}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamAllEmployees_shardedRemoteStreamsCache() throws Exception {
+        when(remoteClient.isSharded()).thenReturn(true);
+        TestDataProvider.getMockEmployees().forEach(employee -> employeeCache.put(employee.getId().toString(), employee));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        employeeStreamService.streamAllEmployees(Set.of("id"), out);
+
+        assertEquals(2, out.toString(StandardCharsets.UTF_8).lines().count());
+        verify(remoteClient, never()).stream(any(), any(), any());
+    }
+}
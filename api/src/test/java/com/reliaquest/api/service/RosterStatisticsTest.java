@@ -0,0 +1,98 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.RosterStats;
+import com.reliaquest.api.helpers.TestDataProvider;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RosterStatisticsTest {
+
+    private RosterStatistics rosterStatistics;
+
+    @BeforeEach
+    void setup() {
+        rosterStatistics = new RosterStatistics();
+    }
+
+    @Test
+    void snapshot_aggregatesRoster() {
+        TestDataProvider.getMockEmployees().forEach(emp -> rosterStatistics.onPut(null, emp));
+
+        RosterStats stats = rosterStatistics.snapshot();
+
+        assertEquals(2, stats.getCount());
+        assertEquals(800000, stats.getSalarySum());
+        assertEquals(400000, stats.getMinSalary());
+        assertEquals(400000, stats.getMaxSalary());
+        assertEquals(400000.0, stats.getMeanSalary());
+        assertEquals(2L, stats.getAgeDistribution().get(30));
+        assertEquals(2L, stats.getTitleCounts().get("Engineer"));
+    }
+
+    @Test
+    void complete_onlyWhileCacheHoldsWholeRoster() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        rosterStatistics.onPut(null, employees.get(0));
+
+        rosterStatistics.markComplete(employees.size());
+        assertFalse(rosterStatistics.isComplete());
+
+        rosterStatistics.onPut(null, employees.get(1));
+        rosterStatistics.markComplete(employees.size());
+        assertTrue(rosterStatistics.isComplete());
+
+        rosterStatistics.onRemove(employees.get(1));
+        assertTrue(rosterStatistics.isComplete());
+
+        rosterStatistics.onEvict(employees.get(0));
+        assertFalse(rosterStatistics.isComplete());
+    }
+
+    @Test
+    void topSalary_followsRemovalsAndReplacements() {
+        Employee low = new Employee(UUID.randomUUID(), "Low", 50000, 30, "Dev", "low@company.com");
+        Employee high = new Employee(UUID.randomUUID(), "High", 90000, 40, "Dev", "high@company.com");
+        rosterStatistics.onPut(null, low);
+        rosterStatistics.onPut(null, high);
+        assertEquals(90000, rosterStatistics.getTopSalary());
+
+        rosterStatistics.onRemove(high);
+        assertEquals(50000, rosterStatistics.getTopSalary());
+
+        Employee raised = new Employee(low.getId(), "Low", 70000, 30, "Dev", "low@company.com");
+        rosterStatistics.onPut(low, raised);
+        assertEquals(70000, rosterStatistics.getTopSalary());
+        assertEquals(1, rosterStatistics.snapshot().getCount());
+
+        rosterStatistics.onRemove(raised);
+        assertNull(rosterStatistics.getTopSalary());
+    }
+
+    @Test
+    void percentiles_areWithinBucketPrecision() {
+        for (int salary = 1000; salary <= 100000; salary += 1000) {
+            rosterStatistics.onPut(null, new Employee(UUID.randomUUID(), "E", salary, 30, "Dev", null));
+        }
+
+        long p50 = rosterStatistics.snapshot().getSalaryPercentiles().get("p50");
+        long p99 = rosterStatistics.snapshot().getSalaryPercentiles().get("p99");
+
+        assertEquals(50000, p50, 50000 * 0.04);
+        assertEquals(99000, p99, 99000 * 0.04);
+    }
+
+    @Test
+    void bucketBounds_coverEveryValue() {
+        for (int value : List.of(0, 31, 32, 63, 64, 65, 30000, 499999, Integer.MAX_VALUE)) {
+            int index = RosterStatistics.bucketIndex(value);
+            assertTrue(RosterStatistics.lowerBound(index) <= value, "lower bound of " + value);
+            assertTrue(RosterStatistics.upperBound(index) >= value, "upper bound of " + value);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.helpers.TestDataProvider;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnknownEmployeeFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UnknownEmployeeFilter filter;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UnknownEmployeeFilter(meterRegistry, 0.01, 1024, 600000, 30000, 1000);
+    }
+
+    @Test
+    void isKnownMissing_falseUntilFirstRebuild() {
+        assertFalse(filter.isKnownMissing(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void isKnownMissing_usesRosterFromLastRebuild() {
+        List<Employee> employees = TestDataProvider.getMockEmployees();
+        filter.rebuild(employees.stream().map(employee -> employee.getId().toString()).toList());
+
+        assertFalse(filter.isKnownMissing(employees.get(0).getId().toString()));
+        assertTrue(filter.isKnownMissing(UUID.randomUUID().toString()));
+        assertTrue(meterRegistry.get("employee.unknown-ids.bloom.bytes").gauge().value() > 0);
+    }
+
+    @Test
+    void onPut_makesNewIdKnownAndClearsNegativeEntry() {
+        filter.rebuild(List.of());
+        Employee employee = TestDataProvider.getMockEmployees().get(0);
+        filter.recordMissing(employee.getId().toString());
+
+        filter.onPut(null, employee);
+
+        assertFalse(filter.isKnownMissing(employee.getId().toString()));
+    }
+}
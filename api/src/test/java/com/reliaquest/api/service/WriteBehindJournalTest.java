@@ -0,0 +1,82 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.reliaquest.api.dto.AddEmployeeRequest;
+import com.reliaquest.api.dto.PendingWrite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+    private Path journalPath;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        journalPath = tempDir.resolve("write-behind.journal");
+    }
+
+    @Test
+    void replay_returnsAppendedEntriesInOrder() throws Exception {
+        PendingWrite first = PendingWrite.accepted(UUID.randomUUID(), new AddEmployeeRequest("Tom", 40000, 30, "Dev"));
+        PendingWrite second = PendingWrite.accepted(UUID.randomUUID(), new AddEmployeeRequest("Ann", 50000, 40, "QA"));
+        try (WriteBehindJournal journal = new WriteBehindJournal(journalPath, objectMapper)) {
+            journal.replay();
+            journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.ENQUEUED, first));
+            journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.ENQUEUED, second));
+            journal.sync();
+        }
+
+        try (WriteBehindJournal journal = new WriteBehindJournal(journalPath, objectMapper)) {
+            List<WriteBehindJournal.Entry> entries = journal.replay();
+
+            assertEquals(2, entries.size());
+            assertEquals(first.getPendingId(), entries.get(0).getWrite().getPendingId());
+            assertEquals("Ann", entries.get(1).getWrite().getName());
+        }
+    }
+
+    @Test
+    void replay_dropsTornTrailingRecord() throws Exception {
+        PendingWrite write = PendingWrite.accepted(UUID.randomUUID(), new AddEmployeeRequest("Tom", 40000, 30, "Dev"));
+        try (WriteBehindJournal journal = new WriteBehindJournal(journalPath, objectMapper)) {
+            journal.replay();
+            journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.ENQUEUED, write));
+            journal.sync();
+        }
+        long intact = Files.size(journalPath);
+        Files.write(journalPath, "{\"op\":\"ENQ".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (WriteBehindJournal journal = new WriteBehindJournal(journalPath, objectMapper)) {
+            assertEquals(1, journal.replay().size());
+            assertEquals(intact, journal.size());
+        }
+    }
+
+    @Test
+    void compact_keepsOnlyLiveEntries() throws Exception {
+        PendingWrite write = PendingWrite.accepted(UUID.randomUUID(), new AddEmployeeRequest("Tom", 40000, 30, "Dev"));
+        try (WriteBehindJournal journal = new WriteBehindJournal(journalPath, objectMapper)) {
+            journal.replay();
+            journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.ENQUEUED, write));
+            journal.compact(List.of());
+
+            assertEquals(0, journal.size());
+        }
+    }
+}
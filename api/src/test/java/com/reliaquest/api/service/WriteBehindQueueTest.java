@@ -0,0 +1,104 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.reliaquest.api.dto.AddEmployeeRequest;
+import com.reliaquest.api.dto.PendingWrite;
+import com.reliaquest.api.dto.Response;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.remote.RemoteClient;
+import com.reliaquest.api.replication.ReplicationNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class WriteBehindQueueTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+    private RemoteClient remoteClient;
+    private ReplicationNode replicationNode;
+    private Cache<String, Employee> cache;
+    private Path journalPath;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        remoteClient = mock(RemoteClient.class);
+        replicationNode = mock(ReplicationNode.class);
+        cache = CacheBuilder.newBuilder().build();
+        journalPath = tempDir.resolve("write-behind.journal");
+    }
+
+    @Test
+    void drain_replayedSubmissionFoundRemotelyIsNotPostedAgain() throws Exception {
+        PendingWrite write = interruptedSubmission();
+        Employee created = new Employee(UUID.randomUUID(), "Tom", 40000, 30, "Dev", "tom@company.com");
+        when(remoteClient.getList(eq(""), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new Response<>(List.of(created))));
+
+        WriteBehindQueue queue = openQueue();
+        queue.drain();
+
+        verify(remoteClient, never()).post(any(), any(), any(ParameterizedTypeReference.class));
+        PendingWrite status = queue.status(write.getPendingId()).orElseThrow();
+        assertEquals(PendingWrite.Status.CREATED, status.getStatus());
+        assertEquals(created.getId(), status.getEmployeeId());
+        assertEquals(created, cache.getIfPresent(created.getId().toString()));
+        verify(replicationNode).publishPut(created);
+        queue.close();
+    }
+
+    @Test
+    void drain_replayedSubmissionMissingRemotelyIsPosted() throws Exception {
+        PendingWrite write = interruptedSubmission();
+        Employee created = new Employee(UUID.randomUUID(), "Tom", 40000, 30, "Dev", "tom@company.com");
+        when(remoteClient.getList(eq(""), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new Response<>(List.of())));
+        when(remoteClient.post(eq(""), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new Response<>(created)));
+
+        WriteBehindQueue queue = openQueue();
+        queue.drain();
+
+        verify(remoteClient).post(eq(""), any(), any(ParameterizedTypeReference.class));
+        assertEquals(PendingWrite.Status.CREATED, queue.status(write.getPendingId()).orElseThrow().getStatus());
+        assertEquals(created, cache.getIfPresent(created.getId().toString()));
+        verify(replicationNode).publishPut(created);
+        queue.close();
+    }
+
+    /**
+     * A journal left by a process that posted the write but stopped before journaling the outcome.
+     */
+    private PendingWrite interruptedSubmission() throws Exception {
+        PendingWrite write = PendingWrite.accepted(UUID.randomUUID(), new AddEmployeeRequest("Tom", 40000, 30, "Dev"));
+        try (WriteBehindJournal journal = new WriteBehindJournal(journalPath, objectMapper)) {
+            journal.replay();
+            journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.ENQUEUED, write));
+            journal.append(new WriteBehindJournal.Entry(WriteBehindJournal.Entry.Op.SUBMITTED, write));
+            journal.sync();
+        }
+        return write;
+    }
+
+    private WriteBehindQueue openQueue() throws Exception {
+        WriteBehindQueue queue = new WriteBehindQueue(remoteClient, cache, replicationNode, objectMapper, true,
+                journalPath.toString(), 5, 2000, 60000);
+        queue.open();
+        return queue;
+    }
+}
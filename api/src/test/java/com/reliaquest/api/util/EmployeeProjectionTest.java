@@ -0,0 +1,35 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.exception.InvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeProjectionTest {
+
+    @Test
+    void parse_normalizesAndKeepsOrder() {
+        assertEquals(List.of("name", "email"), List.copyOf(EmployeeProjection.parse(" Name ,EMAIL,name")));
+    }
+
+    @Test
+    void parse_withoutFieldsIsNoProjection() {
+        assertNull(EmployeeProjection.parse(null));
+        assertNull(EmployeeProjection.parse(" "));
+        assertNull(EmployeeProjection.parse(","));
+        assertNull(EmployeeProjection.parse(" , ,"));
+    }
+
+    @Test
+    void parse_rejectsUnknownField() {
+        assertThrows(InvalidDataException.class, () -> EmployeeProjection.parse("name,password"));
+    }
+
+    @Test
+    void jsonNames_mapsToWireNames() {
+        assertEquals(Set.of("id", "employee_name"), EmployeeProjection.jsonNames(Set.of("id", "name")));
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void tryAcquire_rejectsBeyondShareOfLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 2.0, 0.5);
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limit.tryAcquire(0.8));
+        }
+        assertFalse(limit.tryAcquire(0.8));
+        assertTrue(limit.tryAcquire(1.0));
+        assertTrue(limit.tryAcquire(1.0));
+        assertFalse(limit.tryAcquire(1.0));
+    }
+
+    @Test
+    void release_shrinksLimitOnSlowOrFailedRequests() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 2.0, 0.5);
+
+        limit.tryAcquire(1.0);
+        limit.release(false, 10 * MS, false);
+        limit.tryAcquire(1.0);
+        limit.release(false, 100 * MS, false);
+        assertEquals(5, limit.getLimit());
+
+        limit.tryAcquire(1.0);
+        limit.release(false, 10 * MS, true);
+        assertEquals(2, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void release_fastCacheHitsDoNotMakeRemoteCallsLookSlow() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 2.0, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire(1.0);
+            limit.release(true, MS / 10, false);
+            limit.tryAcquire(0.8);
+            limit.release(false, 10 * MS, false);
+        }
+        assertEquals(10, limit.getLimit());
+
+        limit.tryAcquire(0.8);
+        limit.release(false, 100 * MS, false);
+        assertEquals(5, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void release_growsLimitWhenSaturatedAndFast() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 100, 2.0, 0.5);
+
+        for (int round = 0; round < 20; round++) {
+            while (limit.tryAcquire(1.0)) {
+            }
+            for (int i = limit.getInFlight(); i > 0; i--) {
+                limit.release(false, 10 * MS, false);
+            }
+        }
+        assertTrue(limit.getLimit() > 4);
+    }
+}
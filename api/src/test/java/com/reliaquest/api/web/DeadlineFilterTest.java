@@ -0,0 +1,60 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.DeadlineProperties;
+import com.reliaquest.api.remote.Deadline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeadlineFilterTest {
+
+    private DeadlineFilter deadlineFilter;
+
+    @BeforeEach
+    void setup() {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.setDefaultMs(5000);
+        properties.setMaxMs(10000);
+        properties.getEndpoints().put("/client/employees/search/**", 1500L);
+        deadlineFilter = new DeadlineFilter(properties);
+    }
+
+    @Test
+    void budgetFor_usesHeaderCappedAtMax() {
+        MockHttpServletRequest request = request("/client/employees");
+        request.addHeader(DeadlineFilter.TIMEOUT_HEADER, "60000");
+
+        assertEquals(10000, deadlineFilter.budgetFor(request));
+    }
+
+    @Test
+    void budgetFor_usesEndpointDefault() {
+        assertEquals(1500, deadlineFilter.budgetFor(request("/client/employees/search/john")));
+        assertEquals(5000, deadlineFilter.budgetFor(request("/client/employees")));
+    }
+
+    @Test
+    void doFilter_bindsDeadlineForRequestOnly() throws Exception {
+        MockHttpServletRequest request = request("/client/employees");
+        request.addHeader(DeadlineFilter.TIMEOUT_HEADER, "800");
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+
+        deadlineFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(Deadline.current().orElse(null)));
+
+        assertNotNull(seen.get());
+        assertTrue(seen.get().remainingMillis() <= 800);
+        assertTrue(Deadline.current().isEmpty());
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
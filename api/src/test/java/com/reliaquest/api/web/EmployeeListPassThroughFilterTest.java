@@ -0,0 +1,127 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.remote.RemoteClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EmployeeListPassThroughFilterTest {
+
+    private RemoteClient remoteClient;
+    private AdmissionControl admissionControl;
+    private EmployeeListPassThroughFilter filter;
+
+    @BeforeEach
+    void setup() {
+        remoteClient = mock(RemoteClient.class);
+        admissionControl = admissionControl(20);
+        filter = new EmployeeListPassThroughFilter(remoteClient, admissionControl, new ObjectMapper(), true);
+    }
+
+    @Test
+    void prefersJson_followsAcceptHeader() {
+        assertTrue(EmployeeListPassThroughFilter.prefersJson(null));
+        assertTrue(EmployeeListPassThroughFilter.prefersJson("*/*"));
+        assertTrue(EmployeeListPassThroughFilter.prefersJson("application/json, application/x-jackson-smile;q=0.5"));
+        assertFalse(EmployeeListPassThroughFilter.prefersJson("application/x-jackson-smile"));
+        assertFalse(EmployeeListPassThroughFilter.prefersJson("application/cbor, application/json;q=0.5"));
+        assertFalse(EmployeeListPassThroughFilter.prefersJson("application/x-jackson-smile, */*"));
+    }
+
+    @Test
+    void doFilter_skipsClientsAskingForSmile() throws Exception {
+        MockHttpServletRequest request = listRequest();
+        request.addHeader("Accept", "application/x-jackson-smile");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verifyNoInteractions(remoteClient);
+        assertSame(request, chain.getRequest());
+    }
+
+    @Test
+    void doFilter_remoteFailureFallsThroughWithoutRetry() throws Exception {
+        MockHttpServletRequest request = listRequest();
+        when(remoteClient.stream(any(), any(), any()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(remoteClient, times(1)).stream(any(), any(), any());
+        assertSame(request, chain.getRequest());
+        assertEquals(Boolean.TRUE, request.getAttribute(EmployeeListPassThroughFilter.REMOTE_FAILED_ATTRIBUTE));
+        assertEquals(0, admissionControl.getInFlight());
+    }
+
+    @Test
+    void doFilter_shedsWhenAdmissionLimitIsReached() throws Exception {
+        admissionControl = admissionControl(1);
+        filter = new EmployeeListPassThroughFilter(remoteClient, admissionControl, new ObjectMapper(), true);
+        assertTrue(admissionControl.admit(new MockHttpServletRequest(), new MockHttpServletResponse(), false));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(listRequest(), response, chain);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        verifyNoInteractions(remoteClient);
+        assertEquals(1, admissionControl.getInFlight());
+    }
+
+    @Test
+    void doFilter_remoteFailureAfterCommitAbortsResponse() throws Exception {
+        StringBuilder body = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 2000; i++) {
+            body.append("{\"id\":\"").append(UUID.randomUUID()).append("\",\"employee_name\":\"Employee ").append(i).append("\"},");
+        }
+        byte[] truncated = body.toString().getBytes(StandardCharsets.UTF_8);
+        when(remoteClient.stream(any(), any(), any())).thenAnswer(invocation -> {
+            try {
+                return invocation.<ResponseExtractor<Boolean>>getArgument(2)
+                        .extractData(new MockClientHttpResponse(truncated, HttpStatus.OK));
+            } catch (IOException e) {
+                throw new ResourceAccessException("connection reset", e);
+            }
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        assertThrows(ResourceAccessException.class, () -> filter.doFilter(listRequest(), response, chain));
+
+        assertTrue(response.isCommitted());
+        assertNull(chain.getRequest());
+        assertFalse(response.getContentAsString().endsWith("]"));
+        assertEquals(0, admissionControl.getInFlight());
+    }
+
+    private static AdmissionControl admissionControl(int limit) {
+        return new AdmissionControl(new SimpleMeterRegistry(), true, limit, 1, limit, 2.0, 0.9, 0.0, 1);
+    }
+
+    private static MockHttpServletRequest listRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/client/employees");
+        request.setContextPath("/api");
+        request.setServletPath(EmployeeListPassThroughFilter.EMPLOYEE_LIST_PATH);
+        return request;
+    }
+}
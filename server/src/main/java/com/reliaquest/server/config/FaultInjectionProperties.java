@@ -0,0 +1,82 @@
+package com.reliaquest.server.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Fault injection profiles from {@code mock.faults}. The flags are volatile because the admin endpoint flips them at
+ * runtime.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+
+    private volatile boolean enabled;
+    private List<Profile> profiles = new ArrayList<>();
+
+    /**
+     * Faults for requests matching {@code method} (any if empty) and the Ant-style {@code path}.
+     */
+    @Data
+    public static class Profile {
+        private String name;
+        private String method;
+        private String path = "/**";
+        private volatile boolean enabled = true;
+        private Latency latency = new Latency();
+        /*
+         * Status code -> probability, checked in order, e.g. {503: 0.05, 500: 0.01}.
+         */
+        private Map<Integer, Double> errors = new LinkedHashMap<>();
+        /*
+         * Probability of announcing the full Content-Length but sending only the first half of the body.
+         */
+        private double truncateProbability;
+        private Drip drip = new Drip();
+
+        public Integer sampleErrorStatus(RandomGenerator random) {
+            var roll = random.nextDouble();
+            for (final var error : errors.entrySet()) {
+                roll -= error.getValue();
+                if (roll < 0) {
+                    return error.getKey();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A fixed delay plus, if {@code median-ms} is set, a log-normal long tail with the given median and p99.
+     */
+    @Data
+    public static class Latency {
+        private static final double P99_SIGMAS = 2.326;
+
+        private long fixedMs;
+        private long medianMs;
+        private long p99Ms;
+
+        public long sampleMs(RandomGenerator random) {
+            if (medianMs <= 0) {
+                return fixedMs;
+            }
+            final var sigma = p99Ms > medianMs ? Math.log((double) p99Ms / medianMs) / P99_SIGMAS : 0;
+            return fixedMs + Math.round(medianMs * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    /**
+     * Sends the body {@code chunk-bytes} at a time, pausing {@code interval-ms} between chunks; off when zero.
+     */
+    @Data
+    public static class Drip {
+        private int chunkBytes;
+        private long intervalMs;
+    }
+}
@@ -1,7 +1,13 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.persistence.RosterFile;
+import com.reliaquest.server.store.CompactEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -14,6 +20,7 @@ import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,6 +28,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(FaultInjectionProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
@@ -31,10 +39,35 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * With persistence on this is the recovered roster, and a new one is only seeded or generated for an empty data
+     * directory.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public CompactEmployeeStore employeeStore(
+            Faker faker,
+            EmployeePersistence persistence,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed-file:}") String seedFile) {
+        return CompactEmployeeStore.of(persistence.load(
+                () -> seedFile.isBlank() ? generateEmployees(faker, maxEmployees) : seedEmployees(Path.of(seedFile))));
+    }
+
+    private static List<MockEmployee> seedEmployees(Path seedFile) {
+        final var start = System.nanoTime();
+        try {
+            final var employees = RosterFile.read(seedFile);
+            log.info(
+                    "Seeded {} employees from {} in {} ms",
+                    employees.size(),
+                    seedFile.toAbsolutePath(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return employees;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot seed employees from " + seedFile, e);
+        }
+    }
+
+    private static List<MockEmployee> generateEmployees(Faker faker, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -54,6 +87,6 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new RandomRequestLimitInterceptor()).excludePathPatterns("/admin/**");
     }
 }
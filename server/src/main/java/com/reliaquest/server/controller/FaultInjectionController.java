@@ -0,0 +1,50 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Turns fault injection, or single profiles, on and off without a restart.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultInjectionController {
+
+    private final FaultInjectionProperties faults;
+
+    @GetMapping()
+    public FaultInjectionProperties getFaults() {
+        return faults;
+    }
+
+    @PutMapping()
+    public FaultInjectionProperties setEnabled(@RequestParam("enabled") boolean enabled) {
+        faults.setEnabled(enabled);
+        log.info("Fault injection {}", enabled ? "enabled" : "disabled");
+        return faults;
+    }
+
+    @PutMapping("/{name}")
+    public ResponseEntity<FaultInjectionProperties.Profile> setProfileEnabled(
+            @PathVariable("name") String name, @RequestParam("enabled") boolean enabled) {
+        return faults.getProfiles().stream()
+                .filter(profile -> profile.getName().equals(name))
+                .findFirst()
+                .map(profile -> {
+                    profile.setEnabled(enabled);
+                    log.info("Fault profile {} {}", name, enabled ? "enabled" : "disabled");
+                    return ResponseEntity.ok(profile);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
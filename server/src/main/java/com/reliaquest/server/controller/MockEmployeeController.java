@@ -2,33 +2,94 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeField;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.persistence.RosterFile;
+import com.reliaquest.server.service.EmployeeChangePublisher;
+import com.reliaquest.server.service.EmployeeListCache;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangePublisher changePublisher;
+    private final EmployeeListCache employeeListCache;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields == null || fields.isBlank()) {
+            if (prefersJson(accept)) {
+                return encodedEmployees(acceptEncoding);
+            }
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getMockEmployees()));
+        }
+        final Set<EmployeeField> projection;
+        try {
+            projection = EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error("Unknown field in projection: " + fields));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getMockEmployees().stream()
+                .map(employee -> EmployeeField.project(employee, projection))
+                .toList()));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changePublisher.subscribe(lastEventId);
+    }
+
+    /**
+     * Downloads the roster as a seed file for {@code mock.employees.seed-file}, as CSV or in the binary format.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(value = "format", defaultValue = "csv") String format) {
+        final RosterFile.Format rosterFormat;
+        try {
+            rosterFormat = RosterFile.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        final var employees = List.copyOf(mockEmployeeService.getMockEmployees());
+        final var fileName = rosterFormat == RosterFile.Format.CSV ? "employees.csv" : "employees.bin";
+        return ResponseEntity.ok()
+                .contentType(
+                        rosterFormat == RosterFile.Format.CSV
+                                ? MediaType.valueOf("text/csv")
+                                : MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .body(out -> RosterFile.write(out, rosterFormat, employees));
     }
 
     @GetMapping("/{id}")
@@ -48,4 +109,47 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /**
+     * Serves the pre-encoded list body, gzipped when the client accepts it. Tomcat leaves responses that already
+     * carry a Content-Encoding alone, so the bytes are written as they are.
+     */
+    private ResponseEntity<byte[]> encodedEmployees(String acceptEncoding) {
+        final var encoded = employeeListCache.encoded();
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.raw());
+    }
+
+    /**
+     * True unless the client ranks a binary format (Smile, CBOR) above JSON; those are still serialized per request.
+     */
+    private static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        var json = 0.0;
+        var binary = 0.0;
+        for (final var mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, mediaType.getQualityValue());
+            }
+            if (mediaType.includes(APPLICATION_SMILE) || mediaType.includes(MediaType.APPLICATION_CBOR)) {
+                binary = Math.max(binary, mediaType.getQualityValue());
+            }
+        }
+        return json > 0 && json >= binary;
+    }
 }
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * A single roster mutation, published on the {@code /events} change stream in sequence order.
+ */
+public record EmployeeChangeEvent(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.model;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Properties of {@link MockEmployee} that can be requested through the {@code fields} projection parameter.
+ */
+public enum EmployeeField {
+    ID(MockEmployee::getId),
+    NAME(MockEmployee::getName),
+    SALARY(MockEmployee::getSalary),
+    AGE(MockEmployee::getAge),
+    TITLE(MockEmployee::getTitle),
+    EMAIL(MockEmployee::getEmail);
+
+    private final Function<MockEmployee, Object> accessor;
+    private final String jsonName;
+
+    EmployeeField(Function<MockEmployee, Object> accessor) {
+        this.accessor = accessor;
+        this.jsonName = new MockEmployee.PrefixNamingStrategy().translate(name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Parses a comma-separated list such as {@code id,name}.
+     *
+     * @throws IllegalArgumentException if a name is not a known field
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        final var parsed = EnumSet.noneOf(EmployeeField.class);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> parsed.add(valueOf(field.toUpperCase(Locale.ROOT))));
+        return parsed;
+    }
+
+    public static Map<String, Object> project(MockEmployee employee, Set<EmployeeField> fields) {
+        final var projected = new LinkedHashMap<String, Object>();
+        fields.forEach(field -> projected.put(field.jsonName, field.accessor.apply(employee)));
+        return projected;
+    }
+}
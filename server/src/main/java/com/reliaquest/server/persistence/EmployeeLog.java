@@ -0,0 +1,105 @@
+package com.reliaquest.server.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of roster changes. A record is a type byte, a payload length, the payload and a CRC32 of type and
+ * payload. Replay stops at the first torn or corrupt record, which can only be the tail of a write that was never
+ * acknowledged, and cuts the file there. Only the persistence writer thread appends.
+ */
+@Slf4j
+final class EmployeeLog implements Closeable {
+
+    static final byte CREATE = 1;
+    static final byte DELETE = 2;
+    private static final int HEADER_BYTES = Byte.BYTES + Integer.BYTES;
+    private static final int CRC_BYTES = Integer.BYTES;
+
+    private final FileChannel channel;
+
+    record Entry(byte type, byte[] payload) {}
+
+    private EmployeeLog(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the log at {@code path}, creating it if needed, and hands every intact record to {@code entries}.
+     */
+    static EmployeeLog open(Path path, List<Entry> entries) throws IOException {
+        final var buffer = Files.exists(path) ? ByteBuffer.wrap(Files.readAllBytes(path)) : ByteBuffer.allocate(0);
+        final var crc = new CRC32();
+        var validEnd = 0;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            final var type = buffer.get();
+            final var length = buffer.getInt();
+            if (length < 0 || buffer.remaining() < length + CRC_BYTES) {
+                break;
+            }
+            final var payload = new byte[length];
+            buffer.get(payload);
+            crc.reset();
+            crc.update(type);
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt()) {
+                break;
+            }
+            entries.add(new Entry(type, payload));
+            validEnd = buffer.position();
+        }
+        final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (validEnd < buffer.limit()) {
+            log.warn("Discarding {} bytes of incomplete log tail in {}", buffer.limit() - validEnd, path);
+            channel.truncate(validEnd);
+            channel.force(true);
+        }
+        channel.position(validEnd);
+        return new EmployeeLog(channel);
+    }
+
+    /**
+     * Writes the entries with one write and one fsync; they are durable once this returns.
+     */
+    void append(List<Entry> entries) throws IOException {
+        var size = 0;
+        for (Entry entry : entries) {
+            size += HEADER_BYTES + entry.payload().length + CRC_BYTES;
+        }
+        final var buffer = ByteBuffer.allocate(size);
+        final var crc = new CRC32();
+        for (Entry entry : entries) {
+            crc.reset();
+            crc.update(entry.type());
+            crc.update(entry.payload());
+            buffer.put(entry.type()).putInt(entry.payload().length).put(entry.payload()).putInt((int) crc.getValue());
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Empties the log once its records are covered by a snapshot.
+     */
+    void reset() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,258 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.CompactEmployeeStore;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the mock roster across restarts when {@code mock.persistence.mode} is {@code log}.
+ * <p>
+ * Creates and deletes are appended to {@value #LOG_FILE} by a single writer thread. Every change queued while an
+ * fsync is running is written and synced with the next one (group commit), and a caller returns only once its change
+ * is durable. After {@code compact-after-records} changes the writer saves the whole roster to {@value #SNAPSHOT_FILE}
+ * and empties the log. Startup maps the snapshot into memory and replays the log on top of it; only when neither
+ * exists is a new roster generated.
+ * <p>
+ * A change recorded while the writer is not running fails instead of being dropped. A change still queued after
+ * {@code append-timeout-ms} is withdrawn and fails; one the writer has already taken is waited for, so a change that
+ * fails is never written.
+ */
+@Slf4j
+@Component
+public class EmployeePersistence {
+
+    public static final String SNAPSHOT_FILE = "employees.snapshot";
+    public static final String LOG_FILE = "employees.log";
+
+    public enum Mode {
+        NONE,
+        LOG
+    }
+
+    private final Mode mode;
+    private final Path directory;
+    private final int compactAfterRecords;
+    private final int maxBatch;
+    private final long appendTimeoutMs;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+
+    /*
+     * Durable roster as of the last commit, touched only by the writer thread once started. Compaction snapshots this
+     * rather than the live roster, so it never races with changes still in flight.
+     */
+    private final CompactEmployeeStore durable = new CompactEmployeeStore(0);
+
+    private EmployeeLog employeeLog;
+    private Thread writer;
+    private volatile boolean running;
+    private long recordsSinceSnapshot;
+    private long recordsWritten;
+    private long commits;
+    private long writeNanos;
+
+    public EmployeePersistence(
+            @Value("${mock.persistence.mode:none}") Mode mode,
+            @Value("${mock.persistence.directory:data}") String directory,
+            @Value("${mock.persistence.compact-after-records:10000}") int compactAfterRecords,
+            @Value("${mock.persistence.max-batch:1024}") int maxBatch,
+            @Value("${mock.persistence.append-timeout-ms:5000}") long appendTimeoutMs) {
+        this.mode = mode;
+        this.directory = Path.of(directory);
+        this.compactAfterRecords = compactAfterRecords;
+        this.maxBatch = maxBatch;
+        this.appendTimeoutMs = appendTimeoutMs;
+    }
+
+    public boolean isEnabled() {
+        return mode == Mode.LOG;
+    }
+
+    /**
+     * @return the persisted roster, or the generated one if nothing is persisted yet or persistence is off
+     */
+    public synchronized List<MockEmployee> load(Supplier<List<MockEmployee>> generator) {
+        if (!isEnabled()) {
+            return generator.get();
+        }
+        try {
+            Files.createDirectories(directory);
+            final var start = System.nanoTime();
+            final var snapshot = directory.resolve(SNAPSHOT_FILE);
+            final var fromSnapshot = Files.exists(snapshot) ? EmployeeRecords.readSnapshot(snapshot) : null;
+            final var entries = new ArrayList<EmployeeLog.Entry>();
+            employeeLog = EmployeeLog.open(directory.resolve(LOG_FILE), entries);
+            if (fromSnapshot == null && entries.isEmpty()) {
+                final var generated = generator.get();
+                generated.forEach(durable::put);
+                EmployeeRecords.writeSnapshot(snapshot, generated);
+                log.info("Persisted new roster of {} employees to {}", durable.size(), directory.toAbsolutePath());
+            } else {
+                if (fromSnapshot != null) {
+                    fromSnapshot.forEach(durable::put);
+                }
+                entries.forEach(this::apply);
+                recordsSinceSnapshot = entries.size();
+                log.info(
+                        "Recovered {} employees from {} snapshot records and {} log records in {} ms",
+                        durable.size(),
+                        fromSnapshot != null ? fromSnapshot.size() : 0,
+                        entries.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover the employee roster from " + directory, e);
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "employee-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        return durable.toList();
+    }
+
+    public void recordCreate(MockEmployee employee) {
+        append(new EmployeeLog.Entry(EmployeeLog.CREATE, EmployeeRecords.encode(employee)));
+    }
+
+    public void recordDelete(UUID id) {
+        append(new EmployeeLog.Entry(EmployeeLog.DELETE, EmployeeRecords.encodeId(id)));
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join();
+        employeeLog.close();
+        logThroughput();
+    }
+
+    private void append(EmployeeLog.Entry entry) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!running || writer == null || !writer.isAlive()) {
+            throw new IllegalStateException("Employee log writer is not running, change not persisted");
+        }
+        final var pending = new Pending(entry, new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            try {
+                pending.done().get(appendTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (queue.remove(pending)) {
+                    throw new UncheckedIOException(
+                            new IOException("Employee change not persisted within " + appendTimeoutMs + " ms"));
+                }
+                // Already in a batch being written, so the commit decides the outcome.
+                pending.done().get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof UncheckedIOException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the employee log", e);
+        }
+    }
+
+    private void writeLoop() {
+        final var batch = new ArrayList<Pending>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                final var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        try {
+            final var start = System.nanoTime();
+            employeeLog.append(batch.stream().map(Pending::entry).toList());
+            writeNanos += System.nanoTime() - start;
+            commits++;
+            recordsWritten += batch.size();
+            recordsSinceSnapshot += batch.size();
+            batch.forEach(pending -> apply(pending.entry()));
+        } catch (IOException e) {
+            log.error("Failed to append {} records to the employee log", batch.size(), e);
+            final var failure = new UncheckedIOException("Failed to persist employee change", e);
+            batch.forEach(pending -> pending.done().completeExceptionally(failure));
+            return;
+        }
+        batch.forEach(pending -> pending.done().complete(null));
+        if (recordsSinceSnapshot >= compactAfterRecords) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        try {
+            final var start = System.nanoTime();
+            EmployeeRecords.writeSnapshot(directory.resolve(SNAPSHOT_FILE), durable.toList());
+            employeeLog.reset();
+            log.info(
+                    "Compacted {} log records into a snapshot of {} employees in {} ms",
+                    recordsSinceSnapshot,
+                    durable.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            recordsSinceSnapshot = 0;
+            logThroughput();
+        } catch (IOException e) {
+            log.warn("Employee log compaction failed, keeping the log", e);
+        }
+    }
+
+    private void apply(EmployeeLog.Entry entry) {
+        final var payload = ByteBuffer.wrap(entry.payload());
+        switch (entry.type()) {
+            case EmployeeLog.CREATE -> {
+                durable.put(EmployeeRecords.decode(payload));
+            }
+            case EmployeeLog.DELETE -> durable.remove(EmployeeRecords.decodeId(payload));
+            default -> log.warn("Skipping employee log record of unknown type {}", entry.type());
+        }
+    }
+
+    private void logThroughput() {
+        if (commits == 0) {
+            return;
+        }
+        log.info(
+                "Employee log: {} records in {} group commits ({} records per commit, {} records/s while writing)",
+                recordsWritten,
+                commits,
+                String.format("%.1f", (double) recordsWritten / commits),
+                String.format("%.0f", recordsWritten / (writeNanos / 1e9)));
+    }
+
+    private record Pending(EmployeeLog.Entry entry, CompletableFuture<Void> done) {}
+}
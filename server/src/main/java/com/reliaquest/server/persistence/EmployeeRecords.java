@@ -0,0 +1,166 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Binary encoding of employees, shared by log records and snapshots. An employee is its id as two longs, salary and
+ * age as ints ({@link Integer#MIN_VALUE} for null) and the strings as a byte length (-1 for null) and UTF-8 bytes.
+ * A snapshot is a magic number, a record count and one length-prefixed employee per record.
+ */
+final class EmployeeRecords {
+
+    static final int SNAPSHOT_MAGIC = 0x454D5053;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private EmployeeRecords() {}
+
+    static byte[] encode(MockEmployee employee) {
+        final var bytes = new ByteArrayOutputStream(96);
+        try (final var out = new DataOutputStream(bytes)) {
+            out.writeLong(employee.getId().getMostSignificantBits());
+            out.writeLong(employee.getId().getLeastSignificantBits());
+            out.writeInt(employee.getSalary() != null ? employee.getSalary() : NULL_INT);
+            out.writeInt(employee.getAge() != null ? employee.getAge() : NULL_INT);
+            writeString(out, employee.getName());
+            writeString(out, employee.getTitle());
+            writeString(out, employee.getEmail());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static MockEmployee decode(ByteBuffer buffer) {
+        final var id = new UUID(buffer.getLong(), buffer.getLong());
+        final var salary = buffer.getInt();
+        final var age = buffer.getInt();
+        return MockEmployee.builder()
+                .id(id)
+                .salary(salary != NULL_INT ? salary : null)
+                .age(age != NULL_INT ? age : null)
+                .name(readString(buffer))
+                .title(readString(buffer))
+                .email(readString(buffer))
+                .build();
+    }
+
+    static byte[] encodeId(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    static UUID decodeId(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Writes the snapshot next to {@code path} and moves it into place, so a crash never leaves a partial snapshot.
+     */
+    static void writeSnapshot(Path path, Collection<MockEmployee> employees) throws IOException {
+        final var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (final var channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var out = Channels.newOutputStream(channel);
+            writeSnapshot(out, employees);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static void writeSnapshot(OutputStream stream, Collection<MockEmployee> employees) throws IOException {
+        final var out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(employees.size());
+        for (MockEmployee employee : employees) {
+            final var record = encode(employee);
+            out.writeInt(record.length);
+            out.write(record);
+        }
+        out.flush();
+    }
+
+    static List<MockEmployee> readSnapshot(Path path) throws IOException {
+        return decodeSnapshot(map(path));
+    }
+
+    /**
+     * Finds the record offsets in one pass over the length prefixes, then decodes the records in parallel.
+     */
+    static List<MockEmployee> decodeSnapshot(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 8 || buffer.getInt(0) != SNAPSHOT_MAGIC) {
+            throw new IOException("Not an employee snapshot");
+        }
+        final var count = buffer.getInt(4);
+        final var starts = new int[count];
+        final var lengths = new int[count];
+        var position = 8;
+        for (int i = 0; i < count; i++) {
+            if (position + Integer.BYTES > buffer.limit()) {
+                throw new IOException("Employee snapshot truncated after " + i + " of " + count + " records");
+            }
+            lengths[i] = buffer.getInt(position);
+            starts[i] = position + Integer.BYTES;
+            position = starts[i] + lengths[i];
+        }
+        if (position > buffer.limit()) {
+            throw new IOException("Employee snapshot truncated in its last record");
+        }
+        final var employees = new MockEmployee[count];
+        IntStream.range(0, count).parallel().forEach(i -> employees[i] = decode(buffer.slice(starts[i], lengths[i])));
+        return Arrays.asList(employees);
+    }
+
+    /**
+     * Maps the whole file read-only, so reads come straight from the page cache. Files over 2 GB are not supported.
+     */
+    static ByteBuffer map(Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Roster file over 2 GB: " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,181 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Roster data files for bulk seeding and export, either CSV or the binary snapshot format. Files are read through a
+ * read-only memory mapping and decoded in parallel chunks, without going through Faker.
+ * <p>
+ * CSV files start with the header {@value #CSV_HEADER} and hold one employee per line. Fields containing a comma or a
+ * quote are quoted, line breaks inside a field are exported as spaces, and an empty field is null.
+ */
+public final class RosterFile {
+
+    public static final String CSV_HEADER = "id,name,salary,age,title,email";
+    private static final int CHUNKS_PER_CPU = 4;
+
+    public enum Format {
+        CSV,
+        BINARY;
+
+        /**
+         * @return CSV for {@code .csv} files, the binary format otherwise
+         */
+        public static Format of(Path path) {
+            return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : BINARY;
+        }
+    }
+
+    private RosterFile() {}
+
+    public static List<MockEmployee> read(Path path) throws IOException {
+        final var buffer = EmployeeRecords.map(path);
+        final var employees = Format.of(path) == Format.CSV ? parseCsv(buffer) : EmployeeRecords.decodeSnapshot(buffer);
+        return new ArrayList<>(employees);
+    }
+
+    public static void write(OutputStream out, Format format, Collection<MockEmployee> employees) throws IOException {
+        if (format == Format.BINARY) {
+            EmployeeRecords.writeSnapshot(out, employees);
+            return;
+        }
+        final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (MockEmployee employee : employees) {
+            writer.write(employee.getId() != null ? employee.getId().toString() : "");
+            writer.write(',');
+            writer.write(csvField(employee.getName()));
+            writer.write(',');
+            writer.write(employee.getSalary() != null ? employee.getSalary().toString() : "");
+            writer.write(',');
+            writer.write(employee.getAge() != null ? employee.getAge().toString() : "");
+            writer.write(',');
+            writer.write(csvField(employee.getTitle()));
+            writer.write(',');
+            writer.write(csvField(employee.getEmail()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Splits the file into byte ranges that each start after a line break and parses the ranges in parallel.
+     */
+    static List<MockEmployee> parseCsv(ByteBuffer buffer) {
+        final var bodyStart = nextLine(buffer, 0);
+        final var chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_CPU;
+        final var bounds = new int[chunks + 1];
+        bounds[0] = bodyStart;
+        for (int i = 1; i < chunks; i++) {
+            final var target = bodyStart + (int) ((long) (buffer.limit() - bodyStart) * i / chunks);
+            bounds[i] = Math.max(bounds[i - 1], nextLine(buffer, target));
+        }
+        bounds[chunks] = buffer.limit();
+        final var parsed = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(i -> parseLines(buffer, bounds[i], bounds[i + 1]))
+                .toList();
+        final var employees = new ArrayList<MockEmployee>(parsed.stream().mapToInt(List::size).sum());
+        parsed.forEach(employees::addAll);
+        return employees;
+    }
+
+    private static List<MockEmployee> parseLines(ByteBuffer buffer, int from, int to) {
+        final var employees = new ArrayList<MockEmployee>();
+        var start = from;
+        while (start < to) {
+            var end = start;
+            while (end < to && buffer.get(end) != '\n') {
+                end++;
+            }
+            final var bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            final var line = new String(bytes, StandardCharsets.UTF_8).strip();
+            if (!line.isEmpty()) {
+                employees.add(parseLine(line));
+            }
+            start = end + 1;
+        }
+        return employees;
+    }
+
+    private static MockEmployee parseLine(String line) {
+        final var fields = splitCsv(line);
+        if (fields.size() != 6) {
+            throw new IllegalArgumentException("Expected 6 CSV fields but got " + fields.size() + ": " + line);
+        }
+        return MockEmployee.builder()
+                .id(fields.get(0) != null ? UUID.fromString(fields.get(0)) : UUID.randomUUID())
+                .name(fields.get(1))
+                .salary(fields.get(2) != null ? Integer.valueOf(fields.get(2)) : null)
+                .age(fields.get(3) != null ? Integer.valueOf(fields.get(3)) : null)
+                .title(fields.get(4))
+                .email(fields.get(5))
+                .build();
+    }
+
+    private static List<String> splitCsv(String line) {
+        final var fields = new ArrayList<String>(6);
+        final var field = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final var c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.isEmpty() ? null : field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.isEmpty() ? null : field.toString());
+        return fields;
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        final var singleLine = value.replace('\r', ' ').replace('\n', ' ');
+        if (singleLine.indexOf(',') < 0 && singleLine.indexOf('"') < 0) {
+            return singleLine;
+        }
+        return '"' + singleLine.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * @return the index just after the first line break at or after {@code from}, or the limit if there is none
+     */
+    private static int nextLine(ByteBuffer buffer, int from) {
+        for (int i = from; i < buffer.limit(); i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return buffer.limit();
+    }
+}
@@ -0,0 +1,225 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans roster changes out to server-sent event subscribers. A bounded history of recent events lets a reconnecting
+ * subscriber resume from its last seen sequence via {@code Last-Event-ID}; if that sequence has already been evicted
+ * (or belongs to a previous server run) the subscriber is sent a {@value #RESET_EVENT} event and must resync.
+ * Sequences restart at 1 on every run, so event ids are {@code <epoch>-<sequence>} with an epoch picked at startup,
+ * and an id from another run never resumes.
+ * <p>
+ * Publishing only queues the event for each subscriber; sends happen on a separate pool, so a stalled client never
+ * holds up the create or delete that produced the event. A subscriber with more than {@code subscriber-buffer} unsent
+ * events is closed and has to reconnect, resuming from the history like any other reconnect.
+ */
+@Slf4j
+@Service
+public class EmployeeChangePublisher {
+
+    public static final String EMPLOYEE_EVENT = "employee";
+    public static final String RESET_EVENT = "reset";
+
+    private final Deque<EmployeeChangeEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final ExecutorService senders = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "employee-change-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int historySize;
+    private final int subscriberBuffer;
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private long sequence;
+
+    public EmployeeChangePublisher(
+            @Value("${mock.events.history-size:1024}") int historySize,
+            @Value("${mock.events.subscriber-buffer:256}") int subscriberBuffer) {
+        this.historySize = historySize;
+        this.subscriberBuffer = subscriberBuffer;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        final var emitter = newEmitter();
+        final var subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ignored -> subscribers.remove(subscriber));
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+            log.debug("Change stream subscriber added, resuming after {}", lastEventId);
+        }
+        return emitter;
+    }
+
+    public synchronized void publish(EmployeeChangeEvent.Type type, MockEmployee employee) {
+        final var event = new EmployeeChangeEvent(++sequence, type, employee);
+        history.addLast(event);
+        if (history.size() > historySize) {
+            history.removeFirst();
+        }
+        subscribers.forEach(subscriber -> {
+            if (!subscriber.offer(message(event), true)) {
+                log.debug("Closing change stream subscriber more than {} events behind", subscriberBuffer);
+                subscriber.close();
+            }
+        });
+    }
+
+    @Scheduled(fixedRateString = "${mock.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        // A subscriber with events still queued gets no heartbeat; a full queue is handled by the next publish.
+        subscribers.forEach(subscriber -> {
+            if (subscriber.isIdle()) {
+                subscriber.offer(SseEmitter.event().comment("heartbeat"), true);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        senders.shutdownNow();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(0L);
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        final var lastSequence = sequenceOf(lastEventId);
+        final var oldest = history.peekFirst();
+        final var resumable = lastSequence >= 0
+                && lastSequence <= sequence
+                && (oldest == null || oldest.sequence() <= lastSequence + 1);
+        if (!resumable) {
+            subscriber.offer(SseEmitter.event().id(eventId(sequence)).name(RESET_EVENT).data(sequence), false);
+            return;
+        }
+        for (EmployeeChangeEvent event : history) {
+            if (event.sequence() > lastSequence) {
+                subscriber.offer(message(event), false);
+            }
+        }
+    }
+
+    /**
+     * @return the sequence in an id issued by this run, or -1 for an id from another run or one that does not parse
+     */
+    private long sequenceOf(String eventId) {
+        final var separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String eventId(long eventSequence) {
+        return epoch + "-" + eventSequence;
+    }
+
+    private SseEmitter.SseEventBuilder message(EmployeeChangeEvent event) {
+        return SseEmitter.event()
+                .id(eventId(event.sequence()))
+                .name(EMPLOYEE_EVENT)
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * One connection's outbound queue. At most one sender task drains it at a time, so events keep their order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * @param bounded whether the event counts against the buffer; replayed history is always accepted
+         * @return false if the subscriber is closed or too far behind to take the event
+         */
+        boolean offer(SseEmitter.SseEventBuilder message, boolean bounded) {
+            if (closed || (bounded && queued.get() >= subscriberBuffer)) {
+                return false;
+            }
+            queued.incrementAndGet();
+            pending.add(message);
+            scheduleDrain();
+            return true;
+        }
+
+        boolean isIdle() {
+            return queued.get() == 0;
+        }
+
+        /**
+         * Completes the emitter on the sender pool: completing waits for an in-flight send, which may be the stall.
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            senders.execute(emitter::complete);
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder message;
+                while (!closed && (message = pending.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping change stream subscriber: {}", e.getMessage());
+                closed = true;
+                subscribers.remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encoded JSON body of the full employee list, raw and gzipped, kept until the roster version changes. The roster is
+ * read far more often than it changes, so list requests copy these bytes instead of serializing every employee again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeListCache {
+
+    private final ObjectMapper objectMapper;
+    private final MockEmployeeService mockEmployeeService;
+
+    private volatile Encoded current;
+
+    public Encoded encoded() {
+        final var cached = current;
+        if (cached != null && cached.version() == mockEmployeeService.getVersion()) {
+            return cached;
+        }
+        synchronized (this) {
+            final var version = mockEmployeeService.getVersion();
+            if (current == null || current.version() != version) {
+                current = encode(objectMapper, version, mockEmployeeService.getMockEmployees());
+                log.debug(
+                        "Encoded employee list version {}: {} bytes, {} gzipped",
+                        version,
+                        current.raw().length,
+                        current.gzip().length);
+            }
+            return current;
+        }
+    }
+
+    public static Encoded encode(ObjectMapper objectMapper, long version, List<MockEmployee> employees) {
+        try {
+            final var raw = objectMapper.writeValueAsBytes(Response.handledWith(employees));
+            final var gzipped = new ByteArrayOutputStream(raw.length / 4);
+            try (final var gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(raw);
+            }
+            return new Encoded(version, raw, gzipped.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Encoded(long version, byte[] raw, byte[] gzip) {}
+}
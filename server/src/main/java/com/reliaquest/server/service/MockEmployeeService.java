@@ -3,12 +3,14 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChangeEvent;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.store.CompactEmployeeStore;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,15 +23,28 @@ import org.springframework.stereotype.Service;
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final EmployeeChangePublisher changePublisher;
+    private final EmployeePersistence persistence;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final CompactEmployeeStore employeeStore;
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * @return a copy of the roster; employees are materialized from the compact store on each call
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return employeeStore.toList();
+    }
+
+    /**
+     * Roster version, bumped after every create and delete.
+     */
+    public long getVersion() {
+        return version.get();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.get(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +52,35 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        persistence.recordCreate(mockEmployee);
+        employeeStore.put(mockEmployee);
+        version.incrementAndGet();
+        changePublisher.publish(EmployeeChangeEvent.Type.CREATED, mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = employeeStore.findByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
+            remove(mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = employeeStore.get(uuid);
+        mockEmployee.ifPresent(this::remove);
+        return mockEmployee;
+    }
+
+    private void remove(MockEmployee mockEmployee) {
+        persistence.recordDelete(mockEmployee.getId());
+        employeeStore.remove(mockEmployee.getId());
+        version.incrementAndGet();
+        changePublisher.publish(EmployeeChangeEvent.Type.DELETED, mockEmployee);
+        log.debug("Removed employee: {}", mockEmployee);
+    }
 }
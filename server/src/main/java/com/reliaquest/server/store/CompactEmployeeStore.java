@@ -0,0 +1,260 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Roster kept in parallel primitive columns rather than one {@link MockEmployee} per employee: ids as two longs,
+ * salary and age as ints ({@link Integer#MIN_VALUE} for null) and titles as codes into a dictionary, since Faker
+ * draws them from a small set. Names and emails are nearly unique and stay strings. Lookups by id go through an
+ * open-addressing index over the id columns, so no {@link UUID} or boxed key is kept per employee.
+ * <p>
+ * Deleted rows are marked rather than moved, which keeps roster order, and the columns are compacted once deleted
+ * rows outnumber live ones. {@link MockEmployee} objects are only built when an employee is read.
+ */
+public class CompactEmployeeStore {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostSigBits;
+    private long[] leastSigBits;
+    private int[] salaries;
+    private int[] ages;
+    private int[] titleCodes;
+    private String[] names;
+    private String[] emails;
+    private final BitSet deleted = new BitSet();
+    private int rows;
+    private int live;
+
+    private final List<String> titles = new ArrayList<>();
+    private final Map<String, Integer> titleCodesByTitle = new HashMap<>();
+
+    /*
+     * Slot -> row, EMPTY for a free slot. Linear probing, kept at most half full, with backward-shift deletion so no
+     * slot tombstones are needed.
+     */
+    private int[] index;
+
+    public CompactEmployeeStore(int expectedSize) {
+        allocate(Math.max(MIN_CAPACITY, expectedSize));
+    }
+
+    public static CompactEmployeeStore of(Collection<MockEmployee> employees) {
+        final var store = new CompactEmployeeStore(employees.size());
+        employees.forEach(store::put);
+        return store;
+    }
+
+    /**
+     * Adds the employee, or replaces the stored employee with the same id in place.
+     */
+    public synchronized void put(@NonNull MockEmployee employee) {
+        final var id = employee.getId();
+        if (id == null) {
+            throw new IllegalArgumentException("Employee without an id: " + employee);
+        }
+        final var slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        var row = index[slot];
+        if (row == EMPTY) {
+            if (rows == mostSigBits.length) {
+                grow();
+            }
+            row = rows++;
+            live++;
+            mostSigBits[row] = id.getMostSignificantBits();
+            leastSigBits[row] = id.getLeastSignificantBits();
+            if (live * 2 > index.length) {
+                rebuildIndex(index.length * 2);
+            } else {
+                index[slot] = row;
+            }
+        }
+        salaries[row] = employee.getSalary() != null ? employee.getSalary() : NULL_INT;
+        ages[row] = employee.getAge() != null ? employee.getAge() : NULL_INT;
+        titleCodes[row] = titleCode(employee.getTitle());
+        names[row] = employee.getName();
+        emails[row] = employee.getEmail();
+    }
+
+    public synchronized Optional<MockEmployee> get(@NonNull UUID id) {
+        final var row = index[slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits())];
+        return row == EMPTY ? Optional.empty() : Optional.of(view(row));
+    }
+
+    public synchronized Optional<MockEmployee> remove(@NonNull UUID id) {
+        final var slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        final var row = index[slot];
+        if (row == EMPTY) {
+            return Optional.empty();
+        }
+        final var employee = view(row);
+        removeSlot(slot);
+        deleted.set(row);
+        names[row] = null;
+        emails[row] = null;
+        live--;
+        if (rows - live > live && rows > MIN_CAPACITY) {
+            compact();
+        }
+        return Optional.of(employee);
+    }
+
+    /**
+     * @return the first employee in roster order whose name matches, ignoring case
+     */
+    public synchronized Optional<MockEmployee> findByName(String name) {
+        for (int row = deleted.nextClearBit(0); row < rows; row = deleted.nextClearBit(row + 1)) {
+            if (names[row] != null && names[row].equalsIgnoreCase(name)) {
+                return Optional.of(view(row));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return a copy of the roster in insertion order
+     */
+    public synchronized List<MockEmployee> toList() {
+        final var employees = new ArrayList<MockEmployee>(live);
+        for (int row = deleted.nextClearBit(0); row < rows; row = deleted.nextClearBit(row + 1)) {
+            employees.add(view(row));
+        }
+        return employees;
+    }
+
+    public synchronized int size() {
+        return live;
+    }
+
+    public synchronized int titleCount() {
+        return titles.size();
+    }
+
+    private MockEmployee view(int row) {
+        return MockEmployee.builder()
+                .id(new UUID(mostSigBits[row], leastSigBits[row]))
+                .name(names[row])
+                .salary(salaries[row] != NULL_INT ? salaries[row] : null)
+                .age(ages[row] != NULL_INT ? ages[row] : null)
+                .title(titleCodes[row] != EMPTY ? titles.get(titleCodes[row]) : null)
+                .email(emails[row])
+                .build();
+    }
+
+    private int titleCode(String title) {
+        if (title == null) {
+            return EMPTY;
+        }
+        return titleCodesByTitle.computeIfAbsent(title, added -> {
+            titles.add(added);
+            return titles.size() - 1;
+        });
+    }
+
+    /**
+     * @return the slot holding the row with this id, or the free slot where it would be inserted
+     */
+    private int slotOf(long msb, long lsb) {
+        final var mask = index.length - 1;
+        var slot = hash(msb, lsb) & mask;
+        while (true) {
+            final var row = index[slot];
+            if (row == EMPTY || (mostSigBits[row] == msb && leastSigBits[row] == lsb)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Frees the slot and shifts later entries of the same probe run back into it, so lookups never stop early.
+     */
+    private void removeSlot(int slot) {
+        final var mask = index.length - 1;
+        var hole = slot;
+        var next = (slot + 1) & mask;
+        while (index[next] != EMPTY) {
+            final var row = index[next];
+            final var home = hash(mostSigBits[row], leastSigBits[row]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                index[hole] = row;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        index[hole] = EMPTY;
+    }
+
+    private void rebuildIndex(int slots) {
+        index = new int[slots];
+        Arrays.fill(index, EMPTY);
+        for (int row = deleted.nextClearBit(0); row < rows; row = deleted.nextClearBit(row + 1)) {
+            index[slotOf(mostSigBits[row], leastSigBits[row])] = row;
+        }
+    }
+
+    /**
+     * Moves live rows down over deleted ones, keeping their order, and reindexes.
+     */
+    private void compact() {
+        var target = 0;
+        for (int row = deleted.nextClearBit(0); row < rows; row = deleted.nextClearBit(row + 1)) {
+            mostSigBits[target] = mostSigBits[row];
+            leastSigBits[target] = leastSigBits[row];
+            salaries[target] = salaries[row];
+            ages[target] = ages[row];
+            titleCodes[target] = titleCodes[row];
+            names[target] = names[row];
+            emails[target] = emails[row];
+            target++;
+        }
+        Arrays.fill(names, target, rows, null);
+        Arrays.fill(emails, target, rows, null);
+        rows = target;
+        deleted.clear();
+        rebuildIndex(index.length);
+    }
+
+    private void allocate(int capacity) {
+        mostSigBits = new long[capacity];
+        leastSigBits = new long[capacity];
+        salaries = new int[capacity];
+        ages = new int[capacity];
+        titleCodes = new int[capacity];
+        names = new String[capacity];
+        emails = new String[capacity];
+        index = new int[Integer.highestOneBit(capacity - 1) << 2];
+        Arrays.fill(index, EMPTY);
+    }
+
+    private void grow() {
+        final var capacity = mostSigBits.length + (mostSigBits.length >> 1);
+        mostSigBits = Arrays.copyOf(mostSigBits, capacity);
+        leastSigBits = Arrays.copyOf(leastSigBits, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        titleCodes = Arrays.copyOf(titleCodes, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+    }
+
+    private static int hash(long msb, long lsb) {
+        var h = msb ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Applies the first enabled {@link FaultInjectionProperties.Profile} matching a request: a sampled delay, then
+ * possibly an error status, otherwise the real response, possibly cut short or dripped out in chunks. This is a
+ * filter rather than an interceptor because truncating and dripping need the response body. The admin endpoints and
+ * the change stream are never faulted; the stream never ends, so its body cannot be buffered.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    public static final String ADMIN_PATH = "/admin/";
+    public static final String EVENTS_PATH = "/api/v1/employee/events";
+
+    private final FaultInjectionProperties faults;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        final var path = request.getRequestURI();
+        return !faults.isEnabled() || path.startsWith(ADMIN_PATH) || path.equals(EVENTS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var profile = match(request);
+        if (profile == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var random = ThreadLocalRandom.current();
+        sleep(profile.getLatency().sampleMs(random));
+        final var status = profile.sampleErrorStatus(random);
+        if (status != null) {
+            log.debug(
+                    "Injecting {} into {} {} ({})",
+                    status,
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    profile.getName());
+            response.setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault: " + profile.getName()));
+            return;
+        }
+        final var truncate = random.nextDouble() < profile.getTruncateProbability();
+        final var drip = profile.getDrip().getChunkBytes() > 0;
+        if (!truncate && !drip) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, buffered);
+        final var body = buffered.getContentAsByteArray();
+        final var length = truncate ? body.length / 2 : body.length;
+        if (truncate) {
+            log.debug(
+                    "Truncating {} {} to {} of {} bytes",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    length,
+                    body.length);
+        }
+        response.setContentLength(body.length);
+        final var out = response.getOutputStream();
+        final var chunk = drip ? profile.getDrip().getChunkBytes() : length;
+        for (int offset = 0; offset < length; offset += chunk) {
+            if (drip && offset > 0) {
+                sleep(profile.getDrip().getIntervalMs());
+            }
+            out.write(body, offset, Math.min(chunk, length - offset));
+            out.flush();
+        }
+    }
+
+    private FaultInjectionProperties.Profile match(HttpServletRequest request) {
+        for (final var profile : faults.getProfiles()) {
+            if (profile.isEnabled()
+                    && (profile.getMethod() == null
+                            || profile.getMethod().isBlank()
+                            || profile.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(profile.getPath(), request.getRequestURI())) {
+                return profile;
+            }
+        }
+        return null;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeField;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeListCache;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves the {@code /api/v1/employee} contract from the JDK {@link HttpServer} instead of Tomcat and Spring MVC,
+ * over the same {@link MockEmployeeService} and list cache, for load tests where the servlet stack would saturate
+ * before the api does. Enabled by the {@code lightweight} profile, which also keeps Spring from starting Tomcat.
+ * <p>
+ * Requests run on virtual threads when the JVM has them (Java 21+) and on a fixed pool otherwise. The change stream,
+ * export, Smile/CBOR bodies, fault injection and the random request limit are only available in servlet mode.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "mock.lightweight.enabled", havingValue = "true")
+public class LightweightEmployeeServer {
+
+    private static final String BASE_PATH = "/api/v1/employee";
+    private static final String JSON = "application/json";
+
+    private final MockEmployeeService mockEmployeeService;
+    private final EmployeeListCache employeeListCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int port;
+    private final int threads;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder serviceNanos = new LongAdder();
+    private final AtomicLong lastReportNanos = new AtomicLong(System.nanoTime());
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public LightweightEmployeeServer(
+            MockEmployeeService mockEmployeeService,
+            EmployeeListCache employeeListCache,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${server.port:8112}") int port,
+            @Value("${mock.lightweight.threads:0}") int threads) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.employeeListCache = employeeListCache;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.port = port;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 4;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        executor = newExecutor();
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext(BASE_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Lightweight employee server listening on port {}", port());
+    }
+
+    @PreDestroy
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the bound port, which differs from {@code server.port} when that is 0
+     */
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Scheduled(fixedRateString = "${mock.lightweight.report-interval-ms:10000}")
+    public void reportThroughput() {
+        final var now = System.nanoTime();
+        final var elapsedNanos = now - lastReportNanos.getAndSet(now);
+        final var served = requests.sumThenReset();
+        final var busyNanos = serviceNanos.sumThenReset();
+        if (served > 0) {
+            log.info(
+                    "Served {} requests/s, {} µs mean service time",
+                    String.format("%.1f", served / (elapsedNanos / 1e9)),
+                    busyNanos / served / 1000);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        final var start = System.nanoTime();
+        try {
+            route(exchange);
+        } catch (JsonProcessingException e) {
+            send(exchange, 400, Response.error("Malformed request body: " + e.getOriginalMessage()));
+        } catch (RuntimeException e) {
+            log.error("Error handling web request.", e);
+            send(exchange, 500, Response.error(e.getMessage()));
+        } finally {
+            exchange.close();
+            requests.increment();
+            serviceNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        final var method = exchange.getRequestMethod();
+        final var path = exchange.getRequestURI().getPath().substring(BASE_PATH.length());
+        if (path.isEmpty() || path.equals("/")) {
+            switch (method) {
+                case "GET" -> getEmployees(exchange);
+                case "POST" -> createEmployee(exchange);
+                case "DELETE" -> deleteEmployee(exchange);
+                default -> send(exchange, 405, Response.error("Method not allowed"));
+            }
+            return;
+        }
+        final UUID id;
+        try {
+            id = UUID.fromString(path.substring(1));
+        } catch (IllegalArgumentException e) {
+            send(exchange, 404, Response.error("Not available in lightweight mode: " + path));
+            return;
+        }
+        switch (method) {
+            case "GET" -> mockEmployeeService
+                    .findById(id)
+                    .ifPresentOrElse(
+                            employee -> send(exchange, 200, Response.handledWith(employee)),
+                            () -> send(exchange, 404, Response.handled()));
+            case "DELETE" -> mockEmployeeService
+                    .deleteById(id)
+                    .ifPresentOrElse(
+                            employee -> send(exchange, 200, Response.handledWith(employee)),
+                            () -> send(exchange, 404, Response.handled()));
+            default -> send(exchange, 405, Response.error("Method not allowed"));
+        }
+    }
+
+    private void getEmployees(HttpExchange exchange) throws IOException {
+        final var fields = queryParameter(exchange, "fields");
+        if (fields != null && !fields.isBlank()) {
+            try {
+                final var projection = EmployeeField.parse(fields);
+                send(exchange, 200, Response.handledWith(mockEmployeeService.getMockEmployees().stream()
+                        .map(employee -> EmployeeField.project(employee, projection))
+                        .toList()));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, Response.error("Unknown field in projection: " + fields));
+            }
+            return;
+        }
+        final var encoded = employeeListCache.encoded();
+        final var acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        final var gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        final var body = gzip ? encoded.gzip() : encoded.raw();
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private void createEmployee(HttpExchange exchange) throws IOException {
+        final var input = objectMapper.readValue(exchange.getRequestBody(), CreateMockEmployeeInput.class);
+        final var violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            send(exchange, 400, Response.error("Invalid employee: " + violations.iterator().next().getMessage()));
+            return;
+        }
+        send(exchange, 200, Response.handledWith(mockEmployeeService.create(input)));
+    }
+
+    private void deleteEmployee(HttpExchange exchange) throws IOException {
+        final var input = objectMapper.readValue(exchange.getRequestBody(), DeleteMockEmployeeInput.class);
+        if (!validator.validate(input).isEmpty()) {
+            send(exchange, 400, Response.error("Invalid delete request"));
+            return;
+        }
+        send(exchange, 200, Response.handledWith(mockEmployeeService.delete(input)));
+    }
+
+    private void send(HttpExchange exchange, int status, Response<?> response) {
+        try {
+            final var body = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            log.debug("Failed to write response: {}", e.getMessage());
+        }
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name) {
+        final var query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (final var pair : query.split("&")) {
+            final var separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Virtual threads are looked up reflectively so the module still builds and runs on Java 17.
+     */
+    private ExecutorService newExecutor() {
+        try {
+            final var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            log.info("Handling requests on virtual threads");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads unavailable, handling requests on {} platform threads", threads);
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.CompactEmployeeStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Retained heap of the roster as a {@link MockEmployee} list with a by-id map (before) versus the
+ * {@link CompactEmployeeStore} (after). Titles are fresh strings per employee, as Faker produces them. Run with
+ * {@code ./gradlew server:benchmark -Pbenchmark=EmployeeHeapBenchmark [-Pbench.roster=1000000]}.
+ */
+public class EmployeeHeapBenchmark {
+
+    private static final int TITLES = 500;
+
+    private static volatile Object retained;
+
+    public static void main(String[] args) throws Exception {
+        final var rosterSize = Integer.getInteger("roster", 1_000_000);
+
+        System.out.printf("Roster of %d employees with %d distinct titles%n", rosterSize, TITLES);
+        System.out.printf("%-8s %10s %14s%n", "mode", "MB", "bytes/employee");
+        measure("before", rosterSize, () -> {
+            final var employees = employees(rosterSize);
+            final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+            employees.forEach(employee -> byId.put(employee.getId(), employee));
+            return List.of(employees, byId);
+        });
+        measure("after", rosterSize, () -> CompactEmployeeStore.of(employees(rosterSize)));
+    }
+
+    private static void measure(String mode, int rosterSize, Supplier<Object> roster) throws InterruptedException {
+        final var baseline = usedHeap();
+        retained = roster.get();
+        final var bytes = usedHeap() - baseline;
+        retained = null;
+        System.out.printf("%-8s %10.1f %14.1f%n", mode, bytes / 1e6, bytes / (double) rosterSize);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        final var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static List<MockEmployee> employees(int size) {
+        final var random = new Random(42);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(16 + random.nextInt(54))
+                    .title(new String("Title " + random.nextInt(TITLES)))
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+}
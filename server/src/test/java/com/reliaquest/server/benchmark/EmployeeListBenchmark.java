@@ -0,0 +1,106 @@
+package com.reliaquest.server.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeListCache;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * List-endpoint throughput with the body serialized and gzipped per request (before) versus copied from the
+ * versioned pre-encoded cache (after). A roster write every {@code writeEvery} reads forces the cache to re-encode.
+ * Run with {@code ./gradlew server:benchmark -Pbenchmark=EmployeeListBenchmark [-Pbench.roster=100000]
+ * [-Pbench.seconds=10] [-Pbench.writeEvery=1000]}.
+ */
+public class EmployeeListBenchmark {
+
+    private static final OutputStream SOCKET = OutputStream.nullOutputStream();
+
+    public static void main(String[] args) throws Exception {
+        final var rosterSize = Integer.getInteger("roster", 100_000);
+        final var seconds = Integer.getInteger("seconds", 10);
+        final var writeEvery = Integer.getInteger("writeEvery", 1000);
+        final var objectMapper = new ObjectMapper();
+        final var roster = roster(rosterSize);
+
+        System.out.printf("Roster of %d employees, one write every %d reads%n", rosterSize, writeEvery);
+        System.out.printf("%-8s %12s%n", "mode", "req/s");
+        run("before", seconds, () -> serializePerRequest(objectMapper, roster));
+        final var cache = new VersionedCache(objectMapper, roster, writeEvery);
+        run("after", seconds, cache::serve);
+    }
+
+    private static void run(String mode, int seconds, Request request) throws IOException {
+        final var warmupUntil = System.nanoTime() + 2_000_000_000L;
+        while (System.nanoTime() < warmupUntil) {
+            request.serve();
+        }
+        long requests = 0;
+        final var start = System.nanoTime();
+        final var end = start + seconds * 1_000_000_000L;
+        while (System.nanoTime() < end) {
+            request.serve();
+            requests++;
+        }
+        final var elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-8s %12.1f%n", mode, requests / elapsedSeconds);
+    }
+
+    private static void serializePerRequest(ObjectMapper objectMapper, List<MockEmployee> roster) throws IOException {
+        try (final var gzip = new GZIPOutputStream(SOCKET)) {
+            objectMapper.writeValue(gzip, Response.handledWith(roster));
+        }
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        final var random = new Random(42);
+        final String[] titles = {"Engineer", "Senior Consulting Designer", "Retail Consultant", "Accounting Designer"};
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(16 + random.nextInt(54))
+                    .title(titles[random.nextInt(titles.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    private interface Request {
+        void serve() throws IOException;
+    }
+
+    private static final class VersionedCache {
+        private final ObjectMapper objectMapper;
+        private final List<MockEmployee> roster;
+        private final int writeEvery;
+        private long version;
+        private long reads;
+        private EmployeeListCache.Encoded encoded;
+
+        private VersionedCache(ObjectMapper objectMapper, List<MockEmployee> roster, int writeEvery) {
+            this.objectMapper = objectMapper;
+            this.roster = roster;
+            this.writeEvery = writeEvery;
+        }
+
+        private void serve() throws IOException {
+            if (++reads % writeEvery == 0) {
+                version++;
+            }
+            if (encoded == null || encoded.version() != version) {
+                encoded = EmployeeListCache.encode(objectMapper, version, roster);
+            }
+            SOCKET.write(encoded.gzip());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Write throughput of the employee log with {@code threads} concurrent writers, each waiting for its change to be
+ * durable as the controller does, followed by the time to recover the roster from snapshot and log. Run with
+ * {@code ./gradlew server:benchmark -Pbenchmark=PersistenceBenchmark [-Pbench.roster=100000] [-Pbench.threads=1,8,64]
+ * [-Pbench.seconds=5]}.
+ */
+public class PersistenceBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final var rosterSize = Integer.getInteger("roster", 100_000);
+        final var seconds = Integer.getInteger("seconds", 5);
+        final var threadCounts = System.getProperty("threads", "1,8,64");
+
+        System.out.printf("Roster of %d employees%n", rosterSize);
+        System.out.printf("%-8s %12s %14s%n", "threads", "writes/s", "recovery ms");
+        for (String threads : threadCounts.split(",")) {
+            run(rosterSize, Integer.parseInt(threads.trim()), seconds);
+        }
+    }
+
+    private static void run(int rosterSize, int threads, int seconds) throws Exception {
+        final var directory = Files.createTempDirectory("employee-persistence");
+        try {
+            final var persistence = persistence(directory);
+            persistence.load(() -> roster(rosterSize));
+            final var writes = new AtomicLong();
+            final var end = System.nanoTime() + seconds * 1_000_000_000L;
+            final var done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                final var writer = new Thread(() -> {
+                    while (System.nanoTime() < end) {
+                        persistence.recordCreate(employee(writes.get()));
+                        writes.incrementAndGet();
+                    }
+                    done.countDown();
+                });
+                writer.start();
+            }
+            done.await();
+            persistence.close();
+
+            final var start = System.nanoTime();
+            persistence(directory).load(List::of);
+            final var recoveryMs = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%-8d %12.1f %14.1f%n", threads, writes.get() / (double) seconds, recoveryMs);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static EmployeePersistence persistence(Path directory) {
+        return new EmployeePersistence(EmployeePersistence.Mode.LOG, directory.toString(), 10_000, 1024, 5000);
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (long i = 0; i < size; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+
+    private static MockEmployee employee(long i) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + i)
+                .salary(30_000 + (int) (i % 470_000))
+                .age(16 + (int) (i % 54))
+                .title("Engineer")
+                .email("employee" + i + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.RosterFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Time to seed the roster from a memory-mapped CSV and binary roster file. Names contain a comma, so the CSV path
+ * also exercises quoting.
+ * Run with {@code ./gradlew server:benchmark -Pbenchmark=RosterFileBenchmark [-Pbench.roster=1000000]
+ * [-Pbench.rounds=5]}.
+ */
+public class RosterFileBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final var rosterSize = Integer.getInteger("roster", 1_000_000);
+        final var rounds = Integer.getInteger("rounds", 5);
+        final var roster = roster(rosterSize);
+
+        System.out.printf("Roster of %d employees, best of %d rounds%n", rosterSize, rounds);
+        System.out.printf("%-8s %10s %10s%n", "format", "MB", "load ms");
+        for (final var format : RosterFile.Format.values()) {
+            final var file = Files.createTempFile("roster", format == RosterFile.Format.CSV ? ".csv" : ".bin");
+            try {
+                try (final var out = Files.newOutputStream(file)) {
+                    RosterFile.write(out, format, roster);
+                }
+                var best = Long.MAX_VALUE;
+                for (int round = 0; round < rounds; round++) {
+                    final var start = System.nanoTime();
+                    final var loaded = RosterFile.read(file);
+                    best = Math.min(best, System.nanoTime() - start);
+                    if (loaded.size() != rosterSize) {
+                        throw new IllegalStateException("Loaded " + loaded.size() + " employees from " + file);
+                    }
+                }
+                System.out.printf("%-8s %10.1f %10.1f%n", format, Files.size(file) / 1e6, best / 1e6);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        final var random = new Random(42);
+        final String[] titles = {"Engineer", "Senior Consulting Designer", "Retail Consultant", "Accounting Designer"};
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee, " + i)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(16 + random.nextInt(54))
+                    .title(titles[random.nextInt(titles.length)])
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+}
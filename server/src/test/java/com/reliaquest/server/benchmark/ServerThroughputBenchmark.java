@@ -0,0 +1,66 @@
+package com.reliaquest.server.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lookup-by-id throughput of a running mock server, to compare the servlet stack with the lightweight mode. Start
+ * the server with {@code ./gradlew server:bootRun} or with {@code --args='--spring.profiles.active=lightweight'},
+ * then run {@code ./gradlew server:benchmark -Pbenchmark=ServerThroughputBenchmark
+ * [-Pbench.url=http://localhost:8112/api/v1/employee] [-Pbench.threads=64] [-Pbench.seconds=10]}. The servlet mode's
+ * random request limit answers most requests with 429, which is cheap for it, so compare non-429 rates.
+ */
+public class ServerThroughputBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final var url = System.getProperty("url", "http://localhost:8112/api/v1/employee");
+        final var threads = Integer.getInteger("threads", 64);
+        final var seconds = Integer.getInteger("seconds", 10);
+        final var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        final var listing = client.send(
+                HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString());
+        final var roster = new ObjectMapper().readTree(listing.body()).path("data");
+        final var ids = new ArrayList<String>();
+        for (JsonNode employee : roster) {
+            ids.add(employee.path("id").asText());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No employees listed at " + url);
+        }
+
+        final var ok = new LongAdder();
+        final var other = new LongAdder();
+        final var end = System.nanoTime() + seconds * 1_000_000_000L;
+        final var done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                        while (System.nanoTime() < end) {
+                            final var id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                            try {
+                                final var response = client.send(
+                                        HttpRequest.newBuilder(URI.create(url + "/" + id)).build(),
+                                        HttpResponse.BodyHandlers.discarding());
+                                (response.statusCode() == 200 ? ok : other).increment();
+                            } catch (Exception e) {
+                                other.increment();
+                            }
+                        }
+                        done.countDown();
+                    })
+                    .start();
+        }
+        done.await();
+        System.out.printf("%d threads against %s%n", threads, url);
+        System.out.printf("%-8s %12s%n", "status", "req/s");
+        System.out.printf("%-8s %12.1f%n", "200", ok.sum() / (double) seconds);
+        System.out.printf("%-8s %12.1f%n", "other", other.sum() / (double) seconds);
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_replaysAppendedRecordsInOrder() throws IOException {
+        final var path = directory.resolve(EmployeePersistence.LOG_FILE);
+        try (final var log = EmployeeLog.open(path, new ArrayList<>())) {
+            log.append(List.of(entry(EmployeeLog.CREATE, "first"), entry(EmployeeLog.DELETE, "second")));
+            log.append(List.of(entry(EmployeeLog.CREATE, "third")));
+        }
+
+        assertThat(payloads(replay(path))).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void open_stopsAtRecordWithBadCrcAndCutsTheFile() throws IOException {
+        final var path = directory.resolve(EmployeePersistence.LOG_FILE);
+        try (final var log = EmployeeLog.open(path, new ArrayList<>())) {
+            log.append(List.of(entry(EmployeeLog.CREATE, "kept"), entry(EmployeeLog.CREATE, "corrupt")));
+        }
+        final var bytes = Files.readAllBytes(path);
+        final var intact = recordBytes("kept");
+        bytes[intact + 5] ^= 0x1;
+        Files.write(path, bytes);
+
+        assertThat(payloads(replay(path))).containsExactly("kept");
+        assertThat(Files.size(path)).isEqualTo(intact);
+    }
+
+    @Test
+    void open_dropsTornTailAndAppendsAfterLastIntactRecord() throws IOException {
+        final var path = directory.resolve(EmployeePersistence.LOG_FILE);
+        try (final var log = EmployeeLog.open(path, new ArrayList<>())) {
+            log.append(List.of(entry(EmployeeLog.CREATE, "kept")));
+        }
+        Files.write(path, new byte[] {EmployeeLog.CREATE, 0, 0, 0, 9, 'x'}, StandardOpenOption.APPEND);
+
+        try (final var log = EmployeeLog.open(path, new ArrayList<>())) {
+            log.append(List.of(entry(EmployeeLog.DELETE, "after")));
+        }
+
+        assertThat(payloads(replay(path))).containsExactly("kept", "after");
+    }
+
+    @Test
+    void reset_emptiesTheLog() throws IOException {
+        final var path = directory.resolve(EmployeePersistence.LOG_FILE);
+        try (final var log = EmployeeLog.open(path, new ArrayList<>())) {
+            log.append(List.of(entry(EmployeeLog.CREATE, "compacted")));
+            log.reset();
+            log.append(List.of(entry(EmployeeLog.CREATE, "new")));
+        }
+
+        assertThat(payloads(replay(path))).containsExactly("new");
+    }
+
+    private static List<EmployeeLog.Entry> replay(Path path) throws IOException {
+        final var entries = new ArrayList<EmployeeLog.Entry>();
+        EmployeeLog.open(path, entries).close();
+        return entries;
+    }
+
+    private static EmployeeLog.Entry entry(byte type, String payload) {
+        return new EmployeeLog.Entry(type, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> payloads(List<EmployeeLog.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new String(entry.payload(), StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    /**
+     * Type byte, length, payload and CRC.
+     */
+    private static int recordBytes(String payload) {
+        return 1 + 4 + payload.getBytes(StandardCharsets.UTF_8).length + 4;
+    }
+}
@@ -0,0 +1,153 @@
+package com.reliaquest.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void load_generatesAndSnapshotsRosterWhenNothingIsPersisted() throws Exception {
+        final var roster = List.of(employee("Ann"), employee("Bob"));
+        final var persistence = persistence(10_000);
+
+        assertThat(persistence.load(() -> roster)).containsExactlyElementsOf(roster);
+        persistence.close();
+
+        assertThat(EmployeeRecords.readSnapshot(directory.resolve(EmployeePersistence.SNAPSHOT_FILE)))
+                .containsExactlyElementsOf(roster);
+    }
+
+    @Test
+    void load_replaysLogOnTopOfSnapshot() throws Exception {
+        final var ann = employee("Ann");
+        final var bob = employee("Bob");
+        final var carl = employee("Carl");
+        final var persistence = persistence(10_000);
+        persistence.load(() -> List.of(ann, bob));
+        persistence.recordCreate(carl);
+        persistence.recordDelete(ann.getId());
+        persistence.close();
+
+        final var recovered = persistence(10_000);
+        assertThat(recovered.load(List::of)).containsExactly(bob, carl);
+        recovered.close();
+    }
+
+    @Test
+    void load_ignoresCorruptLogTail() throws Exception {
+        final var ann = employee("Ann");
+        final var bob = employee("Bob");
+        final var persistence = persistence(10_000);
+        persistence.load(() -> List.of(ann));
+        persistence.recordCreate(bob);
+        persistence.close();
+        Files.write(
+                directory.resolve(EmployeePersistence.LOG_FILE),
+                new byte[] {EmployeeLog.DELETE, 0, 0, 0, 16, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        final var recovered = persistence(10_000);
+        assertThat(recovered.load(List::of)).containsExactly(ann, bob);
+        recovered.close();
+    }
+
+    @Test
+    void recordCreate_compactsLogIntoSnapshot() throws Exception {
+        final var ann = employee("Ann");
+        final var bob = employee("Bob");
+        final var carl = employee("Carl");
+        final var dave = employee("Dave");
+        final var persistence = persistence(2);
+        persistence.load(() -> List.of(ann));
+        persistence.recordCreate(bob);
+        persistence.recordCreate(carl);
+        persistence.recordCreate(dave);
+        persistence.close();
+
+        assertThat(EmployeeRecords.readSnapshot(directory.resolve(EmployeePersistence.SNAPSHOT_FILE)))
+                .containsExactly(ann, bob, carl);
+        assertThat(logEntries()).hasSize(1);
+        final var recovered = persistence(2);
+        assertThat(recovered.load(List::of)).containsExactly(ann, bob, carl, dave);
+        recovered.close();
+    }
+
+    @Test
+    void recordCreate_failsWhenWriterIsNotRunning() throws Exception {
+        final var persistence = persistence(10_000);
+        assertThatThrownBy(() -> persistence.recordCreate(employee("Ann"))).isInstanceOf(IllegalStateException.class);
+
+        persistence.load(List::of);
+        persistence.close();
+        assertThatThrownBy(() -> persistence.recordDelete(UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void recordCreate_timedOutChangeIsNeverWritten() throws Exception {
+        final var persistence = new EmployeePersistence(
+                EmployeePersistence.Mode.LOG, directory.toString(), 10_000, 16, 0);
+        persistence.load(List::of);
+        final var persisted = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 200; i++) {
+            final var employee = employee("Employee" + i);
+            try {
+                persistence.recordCreate(employee);
+                persisted.add(employee);
+            } catch (UncheckedIOException e) {
+                // withdrawn before the writer took it
+            }
+        }
+        persistence.close();
+
+        final var recovered = persistence(10_000);
+        assertThat(recovered.load(List::of)).containsExactlyElementsOf(persisted);
+        recovered.close();
+    }
+
+    @Test
+    void recordCreate_isNoOpWhenPersistenceIsOff() {
+        final var persistence = new EmployeePersistence(EmployeePersistence.Mode.NONE, directory.toString(), 10, 16, 100);
+
+        persistence.recordCreate(employee("Ann"));
+
+        assertThat(directory.resolve(EmployeePersistence.LOG_FILE)).doesNotExist();
+    }
+
+    private EmployeePersistence persistence(int compactAfterRecords) {
+        return new EmployeePersistence(
+                EmployeePersistence.Mode.LOG, directory.toString(), compactAfterRecords, 16, 5000);
+    }
+
+    private List<EmployeeLog.Entry> logEntries() throws IOException {
+        final var entries = new ArrayList<EmployeeLog.Entry>();
+        EmployeeLog.open(directory.resolve(EmployeePersistence.LOG_FILE), entries).close();
+        return entries;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void csv_roundTripsQuotesCommasAndNulls() throws IOException {
+        final var roster = List.of(
+                employee("Smith, \"Jay\"", 60_000, 41, "Lead, Platform", "jay@company.com"),
+                employee("Ann", null, null, null, null),
+                employee("Zo\u00eb \u00dcnal", 1, 16, "\"Quoted\"", "zoe@company.com"));
+
+        assertThat(RosterFile.read(writeCsv(roster))).containsExactlyElementsOf(roster);
+    }
+
+    @Test
+    void csv_exportsLineBreaksInsideFieldsAsSpaces() throws IOException {
+        final var employee = employee("Ann\r\nLee", 50_000, 30, "Dev\nOps", "ann@company.com");
+
+        final var read = RosterFile.read(writeCsv(List.of(employee)));
+
+        assertThat(read).singleElement().satisfies(parsed -> {
+            assertThat(parsed.getName()).isEqualTo("Ann  Lee");
+            assertThat(parsed.getTitle()).isEqualTo("Dev Ops");
+        });
+    }
+
+    @Test
+    void csv_writesHeaderAndQuotesOnlyWhenNeeded() throws IOException {
+        final var id = UUID.randomUUID();
+        final var out = new ByteArrayOutputStream();
+
+        RosterFile.write(out, RosterFile.Format.CSV, List.of(MockEmployee.builder()
+                .id(id)
+                .name("O'Neil, Pat")
+                .salary(70_000)
+                .age(50)
+                .title("CTO")
+                .email(null)
+                .build()));
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo(RosterFile.CSV_HEADER + "\n" + id + ",\"O'Neil, Pat\",70000,50,CTO,\n");
+    }
+
+    @Test
+    void csv_acceptsCrlfBlankLinesAndMissingFinalNewline() throws IOException {
+        final var first = UUID.randomUUID();
+        final var second = UUID.randomUUID();
+        final var path = directory.resolve("roster.csv");
+        Files.writeString(
+                path,
+                RosterFile.CSV_HEADER + "\r\n" + first + ",Ann,100,20,Dev,ann@company.com\r\n\r\n" + second
+                        + ",\"Bob \"\"B\"\"\",,,,");
+
+        assertThat(RosterFile.read(path))
+                .containsExactly(
+                        employee(first, "Ann", 100, 20, "Dev", "ann@company.com"),
+                        employee(second, "Bob \"B\"", null, null, null, null));
+    }
+
+    @Test
+    void csv_assignsIdWhenMissing() throws IOException {
+        final var path = directory.resolve("roster.csv");
+        Files.writeString(path, RosterFile.CSV_HEADER + "\n,Ann,100,20,Dev,ann@company.com\n");
+
+        assertThat(RosterFile.read(path)).singleElement().satisfies(parsed -> {
+            assertThat(parsed.getId()).isNotNull();
+            assertThat(parsed.getName()).isEqualTo("Ann");
+        });
+    }
+
+    @Test
+    void csv_readsHeaderOnlyFileAsEmptyRoster() throws IOException {
+        final var path = directory.resolve("roster.csv");
+        Files.writeString(path, RosterFile.CSV_HEADER + "\n");
+
+        assertThat(RosterFile.read(path)).isEmpty();
+    }
+
+    @Test
+    void csv_rejectsLineWithWrongFieldCount() throws IOException {
+        final var path = directory.resolve("roster.csv");
+        Files.writeString(path, RosterFile.CSV_HEADER + "\n" + UUID.randomUUID() + ",Ann, Lee,100,20,Dev,a@b.com\n");
+
+        assertThatThrownBy(() -> RosterFile.read(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Expected 6 CSV fields but got 7");
+    }
+
+    @Test
+    void csv_keepsOrderAcrossParallelChunks() throws IOException {
+        final var roster = IntStream.range(0, 5_000)
+                .mapToObj(i -> employee("Employee " + i, i, 30, "Title " + (i % 7), i + "@company.com"))
+                .toList();
+
+        assertThat(RosterFile.read(writeCsv(roster))).containsExactlyElementsOf(roster);
+    }
+
+    @Test
+    void format_followsFileExtension() {
+        assertThat(RosterFile.Format.of(Path.of("seed.CSV"))).isEqualTo(RosterFile.Format.CSV);
+        assertThat(RosterFile.Format.of(Path.of("seed.roster"))).isEqualTo(RosterFile.Format.BINARY);
+    }
+
+    private Path writeCsv(List<MockEmployee> roster) throws IOException {
+        final var path = directory.resolve("roster.csv");
+        try (final var out = Files.newOutputStream(path)) {
+            RosterFile.write(out, RosterFile.Format.CSV, roster);
+        }
+        return path;
+    }
+
+    private static MockEmployee employee(String name, Integer salary, Integer age, String title, String email) {
+        return employee(UUID.randomUUID(), name, salary, age, title, email);
+    }
+
+    private static MockEmployee employee(
+            UUID id, String name, Integer salary, Integer age, String title, String email) {
+        return MockEmployee.builder()
+                .id(id)
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.EmployeeChangeEvent;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Timeout(10)
+class EmployeeChangePublisherTest {
+
+    private final List<EmployeeChangePublisher> publishers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        publishers.forEach(EmployeeChangePublisher::stop);
+    }
+
+    @Test
+    void subscribe_withoutLastEventIdReceivesNewEventsOnly() throws Exception {
+        final var publisher = publisher(16, 16);
+        publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+
+        final var subscriber = subscribe(publisher, null);
+        publisher.publish(EmployeeChangeEvent.Type.DELETED, employee());
+
+        final var sent = subscriber.next();
+        assertThat(sent.name()).isEqualTo(EmployeeChangePublisher.EMPLOYEE_EVENT);
+        assertThat(sent.id()).endsWith("-2");
+    }
+
+    @Test
+    void subscribe_resumesAfterLastEventId() throws Exception {
+        final var publisher = publisher(16, 16);
+        final var first = subscribe(publisher, null);
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        }
+        final var ids = List.of(first.next().id(), first.next().id(), first.next().id());
+
+        final var resumed = subscribe(publisher, ids.get(0));
+
+        assertThat(resumed.next()).isEqualTo(new Sent(EmployeeChangePublisher.EMPLOYEE_EVENT, ids.get(1)));
+        assertThat(resumed.next()).isEqualTo(new Sent(EmployeeChangePublisher.EMPLOYEE_EVENT, ids.get(2)));
+    }
+
+    @Test
+    void subscribe_resetsForIdFromPreviousRun() throws Exception {
+        final var previousRun = publisher(16, 16);
+        final var before = subscribe(previousRun, null);
+        previousRun.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        final var staleId = before.next().id();
+
+        final var publisher = publisher(16, 16);
+        publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        final var subscriber = subscribe(publisher, staleId);
+
+        final var reset = subscriber.next();
+        assertThat(reset.name()).isEqualTo(EmployeeChangePublisher.RESET_EVENT);
+        assertThat(reset.id()).endsWith("-2").doesNotStartWith(staleId.substring(0, staleId.lastIndexOf('-') + 1));
+    }
+
+    @Test
+    void subscribe_resetsForEvictedOrMalformedId() throws Exception {
+        final var publisher = publisher(2, 16);
+        final var first = subscribe(publisher, null);
+        for (int i = 0; i < 4; i++) {
+            publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        }
+        final var evictedId = first.next().id();
+
+        assertThat(subscribe(publisher, evictedId).next().name()).isEqualTo(EmployeeChangePublisher.RESET_EVENT);
+        assertThat(subscribe(publisher, "1").next().name()).isEqualTo(EmployeeChangePublisher.RESET_EVENT);
+        assertThat(subscribe(publisher, "not-an-id").next().name()).isEqualTo(EmployeeChangePublisher.RESET_EVENT);
+    }
+
+    @Test
+    void subscribe_resumesFromResetId() throws Exception {
+        final var publisher = publisher(16, 16);
+        publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        final var reset = subscribe(publisher, "stale-7").next();
+
+        final var resumed = subscribe(publisher, reset.id());
+        publisher.publish(EmployeeChangeEvent.Type.DELETED, employee());
+
+        final var sent = resumed.next();
+        assertThat(sent.name()).isEqualTo(EmployeeChangePublisher.EMPLOYEE_EVENT);
+        assertThat(sent.id()).endsWith("-2");
+    }
+
+    @Test
+    void slowSubscriber_isClosedWithoutHoldingUpPublishOrOthers() throws Exception {
+        final var publisher = publisher(16, 2);
+        final var slow = subscribe(publisher, null);
+        final var fast = subscribe(publisher, null);
+        final var stall = new CountDownLatch(1);
+        slow.stall = stall;
+
+        // The slow subscriber's first event blocks in send, so the next ones pile up until the buffer overflows.
+        publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+        slow.next();
+        assertThat(fast.next().id()).endsWith("-1");
+        for (int i = 2; i <= 4; i++) {
+            publisher.publish(EmployeeChangeEvent.Type.CREATED, employee());
+            assertThat(fast.next().id()).endsWith("-" + i);
+        }
+
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.completed.getCount()).isEqualTo(1);
+        stall.countDown();
+    }
+
+    private EmployeeChangePublisher publisher(int historySize, int subscriberBuffer) {
+        final var publisher = new EmployeeChangePublisher(historySize, subscriberBuffer) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+        publishers.add(publisher);
+        return publisher;
+    }
+
+    private RecordingEmitter subscribe(EmployeeChangePublisher publisher, String lastEventId) {
+        return (RecordingEmitter) publisher.subscribe(lastEventId);
+    }
+
+    private static MockEmployee employee() {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Jill Jenkins")
+                .build();
+    }
+
+    private record Sent(String name, String id) {}
+
+    /**
+     * Captures the {@code event} and {@code id} lines of each message instead of writing to a response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile CountDownLatch stall;
+
+        private RecordingEmitter() {
+            super(0L);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            final var text = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                }
+            });
+            String name = null;
+            String id = null;
+            for (String line : text.toString().split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("id:")) {
+                    id = line.substring("id:".length());
+                }
+            }
+            sent.add(new Sent(name, id));
+            final var gate = stall;
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+
+        Sent next() throws InterruptedException {
+            final var next = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(next).as("event sent within 5s").isNotNull();
+            return next;
+        }
+    }
+}
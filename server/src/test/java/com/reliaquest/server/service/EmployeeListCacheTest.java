@@ -0,0 +1,93 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.store.CompactEmployeeStore;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeListCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeChangePublisher changePublisher;
+    private MockEmployeeService mockEmployeeService;
+    private EmployeeListCache employeeListCache;
+
+    @BeforeEach
+    void setUp() {
+        changePublisher = new EmployeeChangePublisher(16, 16);
+        mockEmployeeService = new MockEmployeeService(
+                new Faker(), changePublisher, mock(EmployeePersistence.class), new CompactEmployeeStore(0));
+        employeeListCache = new EmployeeListCache(objectMapper, mockEmployeeService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changePublisher.stop();
+    }
+
+    @Test
+    void encoded_isReusedWhileRosterIsUnchanged() {
+        mockEmployeeService.create(input("Jill Jenkins"));
+
+        final var encoded = employeeListCache.encoded();
+
+        assertThat(employeeListCache.encoded()).isSameAs(encoded);
+    }
+
+    @Test
+    void encoded_isRebuiltAfterCreateAndDelete() throws IOException {
+        final var empty = employeeListCache.encoded();
+        assertThat(names(empty.raw())).isEmpty();
+
+        final var created = mockEmployeeService.create(input("Jill Jenkins"));
+        final var afterCreate = employeeListCache.encoded();
+        assertThat(afterCreate.version()).isGreaterThan(empty.version());
+        assertThat(names(afterCreate.raw())).containsExactly("Jill Jenkins");
+
+        mockEmployeeService.deleteById(created.getId());
+        final var afterDelete = employeeListCache.encoded();
+        assertThat(afterDelete.version()).isGreaterThan(afterCreate.version());
+        assertThat(names(afterDelete.raw())).isEmpty();
+    }
+
+    @Test
+    void encoded_gzipDecompressesToRawBody() throws IOException {
+        mockEmployeeService.create(input("Jill Jenkins"));
+        mockEmployeeService.create(input("Bill Bob"));
+
+        final var encoded = employeeListCache.encoded();
+
+        try (final var gzip = new GZIPInputStream(new ByteArrayInputStream(encoded.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(encoded.raw());
+        }
+        assertThat(names(encoded.raw())).containsExactlyInAnyOrder("Jill Jenkins", "Bill Bob");
+    }
+
+    private List<String> names(byte[] body) throws IOException {
+        final var names = new ArrayList<String>();
+        objectMapper.readTree(body).get("data").forEach(employee -> names.add(employee.get("employee_name").asText()));
+        return names;
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CompactEmployeeStoreTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void put_replacesExistingEmployeeInPlace() {
+        final var store = new CompactEmployeeStore(0);
+        final var ann = employee("Ann");
+        final var bob = employee("Bob");
+        store.put(ann);
+        store.put(bob);
+
+        final var renamed = ann.toBuilder().name("Anna").salary(null).title(null).build();
+        store.put(renamed);
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.toList()).containsExactly(renamed, bob);
+        assertThat(store.get(ann.getId())).contains(renamed);
+    }
+
+    @Test
+    void put_rejectsEmployeeWithoutId() {
+        final var store = new CompactEmployeeStore(0);
+
+        assertThatThrownBy(() -> store.put(employee("Ann").toBuilder().id(null).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void put_sharesTitlesThroughDictionary() {
+        final var store = new CompactEmployeeStore(0);
+        for (int i = 0; i < 100; i++) {
+            store.put(employee("Employee " + i).toBuilder().title("Title " + (i % 3)).build());
+        }
+
+        assertThat(store.titleCount()).isEqualTo(3);
+        assertThat(store.findByName("EMPLOYEE 4").map(MockEmployee::getTitle)).contains("Title 1");
+    }
+
+    @Test
+    void remove_keepsEveryOtherIdReachable() {
+        // Many ids in a half-full index form long probe runs, so removals exercise the backward shift.
+        final var store = new CompactEmployeeStore(0);
+        final var expected = new LinkedHashMap<UUID, MockEmployee>();
+        final var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 2_000; i++) {
+            final var employee = employee("Employee " + i);
+            store.put(employee);
+            expected.put(employee.getId(), employee);
+            ids.add(employee.getId());
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            final var id = ids.get(random.nextInt(ids.size()));
+            if (random.nextInt(3) == 0) {
+                final var employee = employee("Again " + i).toBuilder().id(id).build();
+                store.put(employee);
+                expected.put(id, employee);
+            } else {
+                assertThat(store.remove(id)).isEqualTo(Optional.ofNullable(expected.remove(id)));
+            }
+        }
+
+        assertThat(store.size()).isEqualTo(expected.size());
+        for (UUID id : ids) {
+            assertThat(store.get(id)).isEqualTo(Optional.ofNullable(expected.get(id)));
+        }
+        assertThat(store.toList()).containsExactlyElementsOf(expected.values());
+    }
+
+    @Test
+    void remove_compactsOnceDeletedRowsOutnumberLiveOnes() {
+        final var store = new CompactEmployeeStore(0);
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 40; i++) {
+            final var employee = employee("Employee " + i);
+            employees.add(employee);
+            store.put(employee);
+        }
+        final var kept = new ArrayList<MockEmployee>();
+        for (int i = 0; i < employees.size(); i++) {
+            if (i % 4 == 0) {
+                kept.add(employees.get(i));
+            } else {
+                store.remove(employees.get(i).getId());
+            }
+        }
+
+        assertThat(store.toList()).containsExactlyElementsOf(kept);
+        kept.forEach(employee -> assertThat(store.get(employee.getId())).contains(employee));
+        assertThat(store.get(employees.get(1).getId())).isEmpty();
+        assertThat(store.findByName("Employee 1")).isEmpty();
+
+        final var readded = employees.get(1);
+        store.put(readded);
+        kept.add(readded);
+        assertThat(store.toList()).containsExactlyElementsOf(kept);
+        assertThat(store.get(readded.getId())).contains(readded);
+    }
+
+    @Test
+    void remove_returnsEmptyForUnknownId() {
+        final var store = CompactEmployeeStore.of(List.of(employee("Ann")));
+
+        assertThat(store.remove(UUID.randomUUID())).isEmpty();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .name(name)
+                .salary(random.nextInt(200_000))
+                .age(20 + random.nextInt(40))
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private static final String LOOKUP_PATH = "/api/v1/employee/{id:[0-9a-fA-F-]+}";
+
+    private FaultInjectionProperties faults;
+    private FaultInjectionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        faults = new FaultInjectionProperties();
+        faults.setEnabled(true);
+        filter = new FaultInjectionFilter(faults, new ObjectMapper());
+    }
+
+    @Test
+    void lookupProfile_faultsIdLookupsOnly() throws Exception {
+        faults.getProfiles().add(failing("flaky-lookup", "GET", LOOKUP_PATH, 503));
+
+        assertThat(statusOf("GET", "/api/v1/employee/" + UUID.randomUUID())).isEqualTo(503);
+        assertThat(statusOf("GET", "/api/v1/employee/events")).isEqualTo(200);
+        assertThat(statusOf("GET", "/api/v1/employee/export")).isEqualTo(200);
+        assertThat(statusOf("GET", "/api/v1/employee")).isEqualTo(200);
+    }
+
+    @Test
+    void profile_matchesMethodWhenGiven() throws Exception {
+        faults.getProfiles().add(failing("slow-drip-create", "POST", "/api/v1/employee", 500));
+
+        assertThat(statusOf("POST", "/api/v1/employee")).isEqualTo(500);
+        assertThat(statusOf("GET", "/api/v1/employee")).isEqualTo(200);
+    }
+
+    @Test
+    void profile_withoutMethodMatchesAnyMethod() throws Exception {
+        faults.getProfiles().add(failing("everything", null, "/**", 502));
+
+        assertThat(statusOf("GET", "/api/v1/employee")).isEqualTo(502);
+        assertThat(statusOf("DELETE", "/api/v1/employee/" + UUID.randomUUID())).isEqualTo(502);
+    }
+
+    @Test
+    void catchAllProfile_skipsAdminAndChangeStream() throws Exception {
+        faults.getProfiles().add(failing("everything", null, "/**", 502));
+
+        assertThat(statusOf("PUT", "/admin/faults")).isEqualTo(200);
+        assertThat(statusOf("GET", FaultInjectionFilter.EVENTS_PATH)).isEqualTo(200);
+        assertThat(statusOf("GET", "/api/v1/employee/export")).isEqualTo(502);
+    }
+
+    @Test
+    void firstEnabledMatchingProfileWins() throws Exception {
+        final var disabled = failing("disabled", "GET", "/api/v1/employee", 500);
+        disabled.setEnabled(false);
+        faults.getProfiles().add(disabled);
+        faults.getProfiles().add(failing("first", "GET", "/api/v1/**", 503));
+        faults.getProfiles().add(failing("second", "GET", "/api/v1/employee", 504));
+
+        assertThat(statusOf("GET", "/api/v1/employee")).isEqualTo(503);
+    }
+
+    @Test
+    void disabledFaultInjection_passesEverythingThrough() throws Exception {
+        faults.getProfiles().add(failing("everything", null, "/**", 502));
+        faults.setEnabled(false);
+
+        assertThat(statusOf("GET", "/api/v1/employee")).isEqualTo(200);
+    }
+
+    /**
+     * @return the injected status, or 200 if the request reached the chain
+     */
+    private int statusOf(String method, String uri) throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, chain);
+        if (chain.getRequest() != null) {
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+        return response.getStatus();
+    }
+
+    private static FaultInjectionProperties.Profile failing(String name, String method, String path, int status) {
+        final var profile = new FaultInjectionProperties.Profile();
+        profile.setName(name);
+        profile.setMethod(method);
+        profile.setPath(path);
+        profile.setErrors(Map.of(status, 1.0));
+        return profile;
+    }
+}
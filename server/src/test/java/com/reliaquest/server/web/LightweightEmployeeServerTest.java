@@ -0,0 +1,183 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeListCache;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LightweightEmployeeServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client =
+            HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final MockEmployee employee = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("Ann")
+            .salary(50_000)
+            .age(30)
+            .title("Engineer")
+            .email("ann@company.com")
+            .build();
+
+    private MockEmployeeService mockEmployeeService;
+    private EmployeeListCache employeeListCache;
+    private LightweightEmployeeServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockEmployeeService = mock(MockEmployeeService.class);
+        employeeListCache = mock(EmployeeListCache.class);
+        server = new LightweightEmployeeServer(
+                mockEmployeeService,
+                employeeListCache,
+                objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                0,
+                2);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void getEmployees_servesEncodedListGzippedOnRequest() throws Exception {
+        final var encoded = EmployeeListCache.encode(objectMapper, 1, List.of(employee));
+        when(employeeListCache.encoded()).thenReturn(encoded);
+
+        final var plain = send(request("").GET());
+        final var gzipped = send(request("").header("Accept-Encoding", "gzip").GET());
+
+        assertThat(plain.statusCode()).isEqualTo(200);
+        assertThat(plain.headers().firstValue("Content-Type")).contains("application/json");
+        assertThat(plain.body()).isEqualTo(encoded.raw());
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).contains("gzip");
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            assertThat(in.readAllBytes()).isEqualTo(encoded.raw());
+        }
+    }
+
+    @Test
+    void getEmployees_projectsRequestedFields() throws Exception {
+        when(mockEmployeeService.getMockEmployees()).thenReturn(List.of(employee));
+
+        final var response = send(request("?fields=id,name").GET());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        final var projected = json(response).get("data").get(0);
+        assertThat(projected.get("id").asText()).isEqualTo(employee.getId().toString());
+        assertThat(projected.get("employee_name").asText()).isEqualTo("Ann");
+        assertThat(projected.size()).isEqualTo(2);
+        assertThat(send(request("?fields=id,nickname").GET()).statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void getEmployee_findsById() throws Exception {
+        when(mockEmployeeService.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        final var found = send(request("/" + employee.getId()).GET());
+
+        assertThat(found.statusCode()).isEqualTo(200);
+        assertThat(json(found).get("data").get("employee_email").asText()).isEqualTo("ann@company.com");
+        assertThat(send(request("/" + UUID.randomUUID()).GET()).statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void servletOnlyRoutes_areNotFound() throws Exception {
+        final var events = send(request("/events").GET());
+
+        assertThat(events.statusCode()).isEqualTo(404);
+        assertThat(json(events).get("error").asText()).contains("lightweight mode");
+        assertThat(send(request("/export").GET()).statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void createEmployee_validatesInput() throws Exception {
+        when(mockEmployeeService.create(any(CreateMockEmployeeInput.class))).thenReturn(employee);
+
+        final var created = send(
+                request("").POST(body("{\"name\":\"Ann\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}")));
+
+        assertThat(created.statusCode()).isEqualTo(200);
+        assertThat(json(created).get("data").get("id").asText()).isEqualTo(employee.getId().toString());
+        verify(mockEmployeeService).create(any(CreateMockEmployeeInput.class));
+    }
+
+    @Test
+    void createEmployee_rejectsInvalidAndMalformedBodies() throws Exception {
+        final var invalid =
+                send(request("").POST(body("{\"name\":\"Ann\",\"salary\":50000,\"age\":10,\"title\":\"Engineer\"}")));
+        final var malformed = send(request("").POST(body("{\"name\":")));
+
+        assertThat(invalid.statusCode()).isEqualTo(400);
+        assertThat(malformed.statusCode()).isEqualTo(400);
+        assertThat(json(malformed).get("error").asText()).startsWith("Malformed request body");
+        verify(mockEmployeeService, never()).create(any());
+    }
+
+    @Test
+    void deleteEmployee_byNameAndById() throws Exception {
+        when(mockEmployeeService.delete(any(DeleteMockEmployeeInput.class))).thenReturn(true);
+        when(mockEmployeeService.deleteById(employee.getId())).thenReturn(Optional.of(employee));
+
+        final var byName = send(request("").method("DELETE", body("{\"name\":\"Ann\"}")));
+        final var byId = send(request("/" + employee.getId()).DELETE());
+
+        assertThat(byName.statusCode()).isEqualTo(200);
+        assertThat(json(byName).get("data").asBoolean()).isTrue();
+        assertThat(byId.statusCode()).isEqualTo(200);
+        assertThat(json(byId).get("data").get("employee_name").asText()).isEqualTo("Ann");
+        assertThat(send(request("/" + UUID.randomUUID()).DELETE()).statusCode()).isEqualTo(404);
+        assertThat(send(request("").method("DELETE", body("{\"name\":\"\"}"))).statusCode())
+                .isEqualTo(400);
+    }
+
+    @Test
+    void unsupportedMethods_areRejected() throws Exception {
+        assertThat(send(request("").PUT(body("{}"))).statusCode()).isEqualTo(405);
+        assertThat(send(request("/" + employee.getId()).PUT(body("{}"))).statusCode())
+                .isEqualTo(405);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + "/api/v1/employee" + path));
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode json(HttpResponse<byte[]> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static HttpRequest.BodyPublisher body(String json) {
+        return HttpRequest.BodyPublishers.ofString(json);
+    }
+}